@@ -0,0 +1,29 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class CounterConfig {
+
+    /**
+     * 좋아요 / 댓글 수 보정 전용 (전체 테이블을 범위별로 도는 동안 스케줄러 스레드를 점유하지 않도록 분리)
+     * 한 번에 하나만 실행되므로 대기열도 1개만 둠
+     */
+    @Bean(name = "counterReconcileExecutor")
+    public ThreadPoolTaskExecutor counterReconcileExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("counter-reconcile-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+    // 디코딩 / 리사이즈 / 압축을 동시에 처리할 스레드 수 (CPU 작업)
+    @Value("${image.processing.parallelism:4}")
+    private int processingParallelism;
+
+    // 처리 대기열 크기, 가득 차면 요청을 거절(503)
+    @Value("${image.processing.queue-capacity:64}")
+    private int processingQueueCapacity;
+
+    // S3 PUT 을 동시에 보낼 스레드 수 (네트워크 대기 작업)
+    @Value("${image.upload.parallelism:8}")
+    private int uploadParallelism;
+
+    @Value("${image.upload.queue-capacity:64}")
+    private int uploadQueueCapacity;
+
+    // 노드당 파생 이미지 작업 워커 수
+    @Value("${image.job.workers:2}")
+    private int jobWorkers;
+
+    /**
+     * 이미지 처리 전용 Executor
+     * 큐가 가득 차면 AbortPolicy 로 TaskRejectedException 을 던져 백프레셔를 건다
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        return boundedExecutor("image-processing-", processingParallelism, processingQueueCapacity);
+    }
+
+    /**
+     * S3 업로드 전용 Executor
+     * 압축 스레드가 네트워크 대기로 묶이지 않도록 분리해서
+     * N 번째 파일 PUT 과 N+1 번째 파일 압축이 겹쳐서 진행되게 함
+     */
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        return boundedExecutor("s3-upload-", uploadParallelism, uploadQueueCapacity);
+    }
+
+    /**
+     * 이미지 작업 큐 워커
+     * lease 를 잡은 작업만 제출하므로 대기열은 워커 수만큼만 둠
+     */
+    @Bean(name = "imageJobExecutor")
+    public ThreadPoolTaskExecutor imageJobExecutor() {
+        return boundedExecutor("image-job-", jobWorkers, jobWorkers);
+    }
+
+    /**
+     * 고아 객체 정리 전용 (스케줄러 스레드가 몇 시간짜리 목록 조회에 묶이지 않도록 분리)
+     * 한 번에 하나만 실행되므로 대기열도 1개만 둠
+     */
+    @Bean(name = "imageGcExecutor")
+    public ThreadPoolTaskExecutor imageGcExecutor() {
+        return boundedExecutor("image-gc-", 1, 1);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String prefix, int parallelism, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(prefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -15,6 +15,6 @@ public class MvcConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowCredentials(true)
                 .allowedHeaders("*")
-                .exposedHeaders("Set-Cookie", "Authorization");
+                .exposedHeaders("Set-Cookie", "Authorization", "X-Next-Cursor");
     }
 }
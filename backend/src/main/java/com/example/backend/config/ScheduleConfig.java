@@ -1,18 +1,38 @@
 package com.example.backend.config;
 
 import com.example.backend.repository.JwtRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.service.counter.EngagementCountReconciler;
+import com.example.backend.service.storage.OrphanObjectCollector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class ScheduleConfig {
 
     private final JwtRepository jwtRepository;
+    private final OrphanObjectCollector orphanObjectCollector;
+    private final EngagementCountReconciler engagementCountReconciler;
+    private final TaskExecutor imageGcExecutor;
+    private final TaskExecutor counterReconcileExecutor;
 
+    public ScheduleConfig(JwtRepository jwtRepository,
+                          OrphanObjectCollector orphanObjectCollector,
+                          EngagementCountReconciler engagementCountReconciler,
+                          @Qualifier("imageGcExecutor") TaskExecutor imageGcExecutor,
+                          @Qualifier("counterReconcileExecutor") TaskExecutor counterReconcileExecutor) {
+        this.jwtRepository = jwtRepository;
+        this.orphanObjectCollector = orphanObjectCollector;
+        this.engagementCountReconciler = engagementCountReconciler;
+        this.imageGcExecutor = imageGcExecutor;
+        this.counterReconcileExecutor = counterReconcileExecutor;
+    }
 
     // Refresh 토큰 저장소 8일 지난 토큰 삭제
     @Scheduled(cron = "0 0 3 * * *")
@@ -21,4 +41,25 @@ public class ScheduleConfig {
         jwtRepository.deleteByCreatedAtBefore(cutoff);
     }
 
+    // 어떤 행도 참조하지 않는 이미지 객체 정리 (기본 매일 새벽 4시 30분)
+    // 단일 스레드 기본 스케줄러가 다른 작업 (이미지 작업 폴링 등) 을 못 돌리지 않도록 전용 스레드에서 실행
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void orphanObjectSchedule() {
+        try {
+            imageGcExecutor.execute(orphanObjectCollector::collect);
+        } catch (TaskRejectedException e) {
+            log.warn("고아 객체 정리가 이미 대기 중입니다");
+        }
+    }
+
+    // 좋아요 / 댓글 수 컬럼을 실제 행 수로 보정 (기본 매일 새벽 5시), 전용 스레드에서 실행
+    @Scheduled(cron = "${counter.reconcile.cron:0 0 5 * * *}")
+    public void engagementCountSchedule() {
+        try {
+            counterReconcileExecutor.execute(engagementCountReconciler::reconcile);
+        } catch (TaskRejectedException e) {
+            log.warn("좋아요 / 댓글 수 보정이 이미 대기 중입니다");
+        }
+    }
+
 }
@@ -68,7 +68,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Authorization", "Set-Cookie"));
+        configuration.setExposedHeaders(List.of("Authorization", "Set-Cookie", "X-Next-Cursor"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -152,7 +152,10 @@ public class SecurityConfig {
                                 "/photo/*",
                                 "/comment/photo/*",
                                 "/photo/*/like",
-                                "/exhibition/*/like"
+                                "/photo/*/similar",
+                                "/exhibition/*/like",
+                                "/media/**",
+                                "/img/*"
                         ).permitAll()
 
                         // 2. 회원가입 / 인증 관련
@@ -176,6 +179,8 @@ public class SecurityConfig {
                                 "/exhibition/create",
                                 "/s3/upload",
                                 "/photo/upload",
+                                "/photo/presign",
+                                "/photo/finalize",
                                 "/photo/*/like/**",
                                 "/exhibition/*/like/**",
                                 "/comment/*",
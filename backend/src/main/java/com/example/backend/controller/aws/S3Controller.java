@@ -1,6 +1,7 @@
 package com.example.backend.controller.aws;
 
 import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,7 +24,9 @@ public class S3Controller {
      */
     @PostMapping("/upload")
     public ResponseEntity<List<String>> s3Upload(@RequestPart(value = "image") List<MultipartFile> multipartFile) {
-        List<String> upload = s3Service.upload(multipartFile);
+        List<String> upload = s3Service.upload(multipartFile).stream()
+                .map(UploadedImage::imageUrl)
+                .toList();
         return ResponseEntity.status(200).body(upload);
     }
 }
@@ -1,11 +1,13 @@
 package com.example.backend.controller.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.nio.file.AccessDeniedException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class CustomControllerAdvice {
@@ -17,6 +19,17 @@ public class CustomControllerAdvice {
                 .body("접근 권한이 없습니다.");
     }
 
+    /**
+     * 이미지 처리 대기열 포화 (백프레셔)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         return ResponseEntity
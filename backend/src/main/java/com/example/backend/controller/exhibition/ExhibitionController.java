@@ -1,10 +1,15 @@
 package com.example.backend.controller.exhibition;
 
+import com.example.backend.controller.photo.PhotoController;
+import com.example.backend.domain.ViewTarget;
 import com.example.backend.dto.request.ExhibitionRequestDTO;
 import com.example.backend.dto.response.ExhibitionListResponseDTO;
 import com.example.backend.dto.response.ExhibitionResponseDTO;
 import com.example.backend.service.exhibition.ExhibitionService;
+import com.example.backend.service.feed.FeedCache;
+import com.example.backend.service.exhibition.ExhibitionSummaryPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +22,7 @@ import java.util.List;
 public class ExhibitionController {
 
     private final ExhibitionService exhibitionService;
+    private final FeedCache feedCache;
 
     /**
      * 전시회 생성
@@ -35,12 +41,48 @@ public class ExhibitionController {
      * 모든 전시회 조회
      * 조회시 모든 사진도 다 보임
      * 이건 프론트단에서 첫번째 사진만 썸네일 처럼 가져와서 보이게 구현
+     * 직렬화된 응답을 캐시 (FeedCache)
      */
     @GetMapping(value = "/all")
-    public ResponseEntity<List<ExhibitionResponseDTO>> getAllExhibition() {
-        List<ExhibitionResponseDTO> exhibition = exhibitionService.getAllExhibition();
-        return ResponseEntity.status(200).body(exhibition);
+    public ResponseEntity<byte[]> getAllExhibition() {
+        FeedCache.Page page = feedCache.get(ViewTarget.EXHIBITION, "all", null,
+                () -> feedCache.serialize(exhibitionService.getAllExhibition(), null));
+        return ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON).body(page.body());
+
+    }
+
+    /**
+     * 전시회 요약 목록 (/exhibition/all?view=summary&cursor=&size=)
+     * 사진 전체 대신 대표 이미지 / 사진 수 / 작성자 nickname 만 응답
+     * 다음 페이지 커서는 X-Next-Cursor 헤더 (마지막 페이지면 없음)
+     */
+    @GetMapping(value = "/all", params = "view=summary")
+    public ResponseEntity<byte[]> getExhibitionSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        FeedCache.Page page = feedCache.get(ViewTarget.EXHIBITION, "summary:" + ExhibitionService.clampSummarySize(size), cursor, () -> {
+            ExhibitionSummaryPage summaries = exhibitionService.getExhibitionSummaries(cursor, size);
+            return feedCache.serialize(summaries.exhibitions(), summaries.nextCursor());
+        });
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON);
+        if (page.nextCursor() != null) {
+            response.header(PhotoController.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.body());
+    }
 
+    /**
+     * 트렌딩 전시회 요약 목록 (/exhibition/all?view=trending&size=)
+     * 좋아요 / 댓글 / 조회에 시간 감쇠를 적용한 메모리 순위에서 바로 응답
+     */
+    @GetMapping(value = "/all", params = "view=trending")
+    public ResponseEntity<byte[]> getTrendingExhibitions(
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        FeedCache.Page page = feedCache.get(ViewTarget.EXHIBITION, "trending:" + ExhibitionService.clampSummarySize(size), null,
+                () -> feedCache.serialize(exhibitionService.getTrendingExhibitions(size), null));
+        return ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON).body(page.body());
     }
 
     /**
@@ -48,9 +90,9 @@ public class ExhibitionController {
      * 프론트에서 수정용도로 두가지 사용
      */
     @GetMapping(value = "/{exhibitionId}")
-    public ResponseEntity<ExhibitionResponseDTO> getExhibitionById(@PathVariable Long exhibitionId) {
-        ExhibitionResponseDTO exhibition = exhibitionService.getExhibitionById(exhibitionId);
-        return ResponseEntity.status(200).body(exhibition);
+    public ResponseEntity<byte[]> getExhibitionById(@PathVariable Long exhibitionId) {
+        byte[] exhibition = exhibitionService.getExhibitionById(exhibitionId);
+        return ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON).body(exhibition);
 
     }
 
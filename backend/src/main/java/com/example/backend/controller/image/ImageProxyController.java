@@ -0,0 +1,45 @@
+package com.example.backend.controller.image;
+
+import com.example.backend.service.image.ImageProxyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/img")
+@RequiredArgsConstructor
+public class ImageProxyController {
+
+    private final ImageProxyService imageProxyService;
+
+    /**
+     * 요청 너비로 줄인 사진 (w 는 단계에 맞춰 올림, q 는 가장 가까운 품질 단계)
+     */
+    @GetMapping("/{photoId}")
+    public ResponseEntity<byte[]> getImage(
+            @PathVariable Long photoId,
+            @RequestParam(value = "w", defaultValue = "640") int width,
+            @RequestParam(value = "q", required = false) Integer quality,
+            WebRequest request
+    ) {
+        ImageProxyService.ProxiedImage image = imageProxyService.getImage(photoId, width, quality);
+        if (request.checkNotModified(image.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.status(200)
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                .eTag(image.etag())
+                .body(image.data());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.controller.media;
+
+import com.example.backend.service.storage.LocalMediaService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로컬 저장소 이미지 조회 (image.storage.type=local 일 때만 등록)
+ * S3 저장소는 버킷 url 로 바로 조회
+ */
+@RestController
+@RequestMapping("/media")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class MediaController {
+
+    private static final String PREFIX = "/media/";
+
+    private final LocalMediaService localMediaService;
+
+    /**
+     * 저장된 파생 이미지 응답 (Range / ETag 지원)
+     */
+    @GetMapping("/**")
+    public void getMedia(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = UriUtils.decode(path.substring(PREFIX.length()), StandardCharsets.UTF_8);
+        localMediaService.serve(key, request, response);
+    }
+}
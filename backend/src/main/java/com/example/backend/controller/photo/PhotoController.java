@@ -1,15 +1,24 @@
 package com.example.backend.controller.photo;
 
+import com.example.backend.domain.ViewTarget;
+import com.example.backend.dto.request.PhotoFinalizeRequestDTO;
+import com.example.backend.dto.request.PhotoPresignRequestDTO;
 import com.example.backend.dto.request.PhotoRequestDTO;
 import com.example.backend.dto.response.PhotoResponseDTO;
+import com.example.backend.dto.response.PresignedUploadResponseDTO;
+import com.example.backend.service.feed.FeedCache;
+import com.example.backend.service.photo.PhotoFeed;
 import com.example.backend.service.photo.PhotoService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,7 +26,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PhotoController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final PhotoService photoService;
+    private final FeedCache feedCache;
 
     /**
      * 사진 업로드
@@ -33,14 +45,49 @@ public class PhotoController {
 
     }
 
+    /**
+     * 브라우저 직접 업로드용 presigned URL 발급
+     */
+    @PostMapping(value = "/presign", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PresignedUploadResponseDTO>> presignUploads(
+            @Valid @RequestBody PhotoPresignRequestDTO dto
+    ) {
+        List<PresignedUploadResponseDTO> response = photoService.presignUploads(dto);
+        return ResponseEntity.status(200).body(response);
+    }
+
+    /**
+     * 직접 업로드 완료 후 사진 등록
+     * 파생 이미지는 비동기로 생성됨
+     */
+    @PostMapping(value = "/finalize", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PhotoResponseDTO>> finalizeUpload(
+            @Valid @RequestBody PhotoFinalizeRequestDTO dto
+    ) {
+        List<PhotoResponseDTO> response = photoService.finalizeUpload(dto);
+        return ResponseEntity.status(202).body(response);
+    }
+
     /**
      * 단일 사진 조회
      */
     @GetMapping(value = "/{photoId}")
-    public ResponseEntity<PhotoResponseDTO> getPhoto(@PathVariable Long photoId) {
-        PhotoResponseDTO photo = photoService.getPhoto(photoId);
+    public ResponseEntity<byte[]> getPhoto(@PathVariable Long photoId) {
+        byte[] photo = photoService.getPhoto(photoId);
 
-        return ResponseEntity.status(200).body(photo);
+        return ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON).body(photo);
+    }
+
+    /**
+     * 유사 사진 조회 (중복 / 재크롭 복제본)
+     */
+    @GetMapping(value = "/{photoId}/similar")
+    public ResponseEntity<List<PhotoResponseDTO>> getSimilarPhotos(
+            @PathVariable Long photoId,
+            @RequestParam(defaultValue = "8") int distance
+    ) {
+        List<PhotoResponseDTO> photos = photoService.getSimilarPhotos(photoId, distance);
+        return ResponseEntity.status(200).body(photos);
     }
 
     /**
@@ -53,14 +100,37 @@ public class PhotoController {
     }
 
     /**
-     * 전체 사진 조회
+     * 전체 사진 조회 (커서 페이지네이션)
+     * 본문은 기존처럼 사진 배열, 다음 페이지 커서는 X-Next-Cursor 헤더 (마지막 페이지면 없음)
+     * 앞쪽 페이지는 직렬화된 채로 캐시 (FeedCache)
      */
     @GetMapping(value = "/all")
-    public ResponseEntity<List<PhotoResponseDTO>> getAllPhotos(
-            @RequestParam(defaultValue = "newest") String sort
+    public ResponseEntity<byte[]> getAllPhotos(
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(required = false) String camera,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate takenFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate takenTo
     ) {
-        List<PhotoResponseDTO> photos = photoService.getAllPhotos(sort);
-        return ResponseEntity.status(200).body(photos);
+        // 촬영 정보 필터가 있으면 촬영일 최신순 (캐시하지 않음)
+        FeedCache.Page page;
+        if (camera != null || takenFrom != null || takenTo != null) {
+            page = feedCache.serialize(photoService.getPhotosByCapture(camera, takenFrom, takenTo), null);
+        } else {
+            // 캐시 scope 는 정규화한 정렬 + 실제 페이지 크기 (요청값 그대로 쓰면 키가 무한히 늘어남)
+            String scope = PhotoService.normalizeSort(sort) + ":" + PhotoService.clampFeedSize(size);
+            page = feedCache.get(ViewTarget.PHOTO, scope, cursor, () -> {
+                PhotoFeed feed = photoService.getAllPhotos(sort, cursor, size);
+                return feedCache.serialize(feed.photos(), feed.nextCursor());
+            });
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(200).contentType(MediaType.APPLICATION_JSON);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.body());
 
     }
 
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -17,7 +18,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "exhibitions")
+@Table(name = "exhibitions",
+        indexes = {
+                // 전시회 목록 키셋 페이지네이션 (createdAt DESC, exhibitionId DESC)
+                @Index(name = "idx_exhibitions_created", columnList = "created_at, exhibition_id")
+        })
 @EntityListeners(AuditingEntityListener.class)
 public class Exhibition {
 
@@ -55,9 +60,30 @@ public class Exhibition {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    @Column(name = "exhibition_view_count")
+    // 엔티티 수정시 갱신 (상세 응답 캐시 버전), 조회수 / 순 방문자 수 갱신은 포함하지 않음
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 조회수는 ViewCountBuffer 가 UPDATE ... + ? 로만 증가시킴 (엔티티 UPDATE 대상에서 제외)
+    @Column(name = "exhibition_view_count", updatable = false)
     private Long exhibitionViewCount;
 
+    // HyperLogLog 로 추정한 순 방문자 수, UniqueViewerCounter 가 갱신
+    @Column(name = "unique_viewer_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long uniqueViewerCount = 0L;
+
+    // 좋아요 / 댓글 수 (COUNT 대신 읽음), 좋아요 / 댓글 저장과 같은 트랜잭션에서 UPDATE ... ± 1 로만 변경
+    // 어긋난 값은 EngagementCountReconciler 가 주기적으로 보정
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
 
     @OneToMany(mappedBy = "exhibition",
             cascade = CascadeType.ALL,  // 연관된 작업(삭제 포함)을 전파
@@ -92,12 +118,5 @@ public class Exhibition {
 
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.exhibitionViewCount = this.exhibitionViewCount + 1;
-    }
-
 
 }
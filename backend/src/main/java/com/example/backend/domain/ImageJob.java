@@ -0,0 +1,106 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파생 이미지 생성 작업 큐
+ * 워커는 lease 를 잡은 작업만 처리하고, lease 가 만료되면 다른 노드가 다시 가져감
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Table(name = "image_jobs",
+        indexes = @Index(name = "idx_image_jobs_claim", columnList = "status, next_attempt_at"))
+@EntityListeners(AuditingEntityListener.class)
+public class ImageJob {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_job_id")
+    private Long imageJobId;
+
+    //  논리적으로만 관계가 있는 값
+    @Column(name = "photo_id", nullable = false)
+    private Long photoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImageJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public boolean isLeasedBy(String owner) {
+        return status == ImageJobStatus.RUNNING && owner.equals(leaseOwner);
+    }
+
+    /**
+     * 처리 완료
+     */
+    public void complete() {
+        this.status = ImageJobStatus.DONE;
+        releaseLease();
+    }
+
+    /**
+     * 실패, nextAttemptAt 이후 다시 처리
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = ImageJobStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        releaseLease();
+    }
+
+    /**
+     * 최대 재시도 초과
+     */
+    public void deadLetter(String error) {
+        this.status = ImageJobStatus.DEAD;
+        this.lastError = truncate(error);
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
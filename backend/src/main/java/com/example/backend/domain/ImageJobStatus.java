@@ -0,0 +1,8 @@
+package com.example.backend.domain;
+
+public enum ImageJobStatus {
+    PENDING, // 대기 (재시도 대기 포함)
+    RUNNING, // 워커가 lease 를 잡고 처리 중
+    DONE,    // 완료
+    DEAD     // 최대 재시도 초과 (dead-letter)
+}
@@ -0,0 +1,15 @@
+package com.example.backend.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariantType {
+    THUMB("thumb"),   // 그리드 / 목록 썸네일
+    MEDIUM("medium"), // 카드, 피드
+    FULL("full");     // 상세 보기
+
+    // S3 키 접미사
+    private final String suffix;
+}
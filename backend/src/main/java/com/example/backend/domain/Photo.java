@@ -6,10 +6,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
@@ -17,7 +20,15 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "photos")
+@Table(name = "photos",
+        indexes = {
+                @Index(name = "idx_photos_content_hash", columnList = "content_hash"),
+                @Index(name = "idx_photos_taken_at", columnList = "taken_at"),
+                @Index(name = "idx_photos_camera_taken_at", columnList = "camera_model, taken_at"),
+                // 공개 피드 키셋 페이지네이션 (exhibition_id IS NULL + 정렬 키 + photo_id)
+                @Index(name = "idx_photos_feed_created", columnList = "exhibition_id, created_at, photo_id"),
+                @Index(name = "idx_photos_feed_popular", columnList = "exhibition_id, unique_viewer_count, photo_id")
+        })
 @EntityListeners(AuditingEntityListener.class)
 public class Photo {
 
@@ -43,6 +54,61 @@ public class Photo {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 업로드된 원본 키 (파생 이미지 생성 전까지 imageUrl 은 비어 있음)
+    @Column(name = "original_key")
+    private String originalKey;
+
+    // 원본 내용 해시 (stored_images 참조), null 이면 내용 주소 저장 도입 전 사진
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 원본 형식 / 표시 크기 (EXIF 회전 반영), 업로드시 헤더만 읽어서 기록
+    @Column(name = "source_format", length = 10)
+    private String sourceFormat;
+
+    @Column(name = "source_width")
+    private Integer sourceWidth;
+
+    @Column(name = "source_height")
+    private Integer sourceHeight;
+
+    // EXIF 촬영 정보 (필터 / 정렬용), 업로드시 헤더에서 읽어서 기록
+    // GPS 는 저장하지 않음
+    @Column(name = "taken_at")
+    private LocalDateTime takenAt;
+
+    @Column(name = "camera_make", length = 64)
+    private String cameraMake;
+
+    @Column(name = "camera_model", length = 64)
+    private String cameraModel;
+
+    @Column(name = "lens_model", length = 64)
+    private String lensModel;
+
+    @Column(name = "iso")
+    private Integer iso;
+
+    // 유사 이미지 탐지용 64비트 dHash
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
+    // 이미지 로딩 전 자리 표시 (BlurHash 문자열, LQIP data URI)
+    @Column(name = "blur_hash", length = 64)
+    private String blurHash;
+
+    @Column(name = "lqip", length = 4000)
+    private String lqip;
+
+    // 다른 사용자의 사진과 거의 같은 이미지면 그 사진 id (중복 의심 표시)
+    @Column(name = "duplicate_of_photo_id")
+    private Long duplicateOfPhotoId;
+
+    // 파생 이미지 처리 상태 (null 은 작업 큐 도입 전 사진 -> READY)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private PhotoStatus status;
+
     @Column(name = "price")
     private Long price;
 
@@ -50,9 +116,39 @@ public class Photo {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "photo_view_count")
+    // 엔티티 수정시 갱신 (상세 응답 캐시 버전), 조회수 / 순 방문자 수 갱신은 포함하지 않음
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 조회수는 ViewCountBuffer 가 UPDATE ... + ? 로만 증가시킴
+    // 엔티티 수정시 읽어둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(name = "photo_view_count", updatable = false)
     private Long photoViewCount;
 
+    // HyperLogLog 로 추정한 순 방문자 수 (인기순 정렬 기준), UniqueViewerCounter 가 갱신
+    @Column(name = "unique_viewer_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long uniqueViewerCount = 0L;
+
+    // 좋아요 / 댓글 수 (COUNT 대신 읽음), 좋아요 / 댓글 저장과 같은 트랜잭션에서 UPDATE ... ± 1 로만 변경
+    // 어긋난 값은 EngagementCountReconciler 가 주기적으로 보정
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    // 해상도별 파생 이미지 (thumb / medium / full)
+    // 목록 조회시 N+1 을 막기 위해 BatchSize 로 묶어서 조회
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "photo_variants", joinColumns = @JoinColumn(name = "photo_id"))
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<PhotoVariant> variants = new ArrayList<>();
+
 
     // 관계 매핑
     @OneToMany(mappedBy = "photo", cascade = CascadeType.ALL)
@@ -76,8 +172,88 @@ public class Photo {
         this.price = dto.getPrice();
     }
 
-    public void increaseViewCount() {
-        this.photoViewCount = this.photoViewCount + 1;
+    /**
+     * 내용 주소 원본 연결 (stored_images 참조를 획득한 뒤 호출)
+     */
+    public void attachContent(String contentHash, String originalKey) {
+        this.contentHash = contentHash;
+        this.originalKey = originalKey;
+    }
+
+    /**
+     * 원본 헤더 정보 기록
+     */
+    public void recordSource(String format, int width, int height) {
+        this.sourceFormat = format;
+        this.sourceWidth = width;
+        this.sourceHeight = height;
+    }
+
+    /**
+     * EXIF 촬영 정보 기록
+     */
+    public void recordCapture(LocalDateTime takenAt, String cameraMake, String cameraModel, String lensModel, Integer iso) {
+        this.takenAt = takenAt;
+        this.cameraMake = cameraMake;
+        this.cameraModel = cameraModel;
+        this.lensModel = lensModel;
+        this.iso = iso;
+    }
+
+    /**
+     * 파생 이미지 생성 완료
+     * 같은 내용의 저장 이미지에서 url / 파생 이미지 / 해시 / 자리 표시를 복사
+     */
+    public void completeProcessing(StoredImage stored) {
+        this.imageUrl = stored.getImageUrl();
+        this.variants.clear();
+        this.variants.addAll(stored.copyVariants());
+        this.perceptualHash = stored.getPerceptualHash();
+        this.blurHash = stored.getBlurHash();
+        this.lqip = stored.getLqip();
+        this.status = PhotoStatus.READY;
+    }
+
+    /**
+     * 공개 피드 / 인기 순위 대상 여부 (전시회에 속하지 않은 READY 사진)
+     */
+    public boolean isFeedEligible() {
+        return exhibition == null && PhotoStatus.isReady(status);
+    }
+
+    /**
+     * 중복 의심 표시
+     */
+    public void markDuplicateOf(Long photoId) {
+        this.duplicateOfPhotoId = photoId;
+    }
+
+    /**
+     * 파생 이미지 생성 최종 실패
+     */
+    public void failProcessing() {
+        this.status = PhotoStatus.FAILED;
+    }
+
+    public PhotoStatus getStatus() {
+        return status == null ? PhotoStatus.READY : status;
+    }
+
+    /**
+     * 해당 크기의 파생 이미지 조회
+     * 파생 이미지가 없는 기존 사진은 원본 imageUrl 사용
+     */
+    public PhotoVariant getVariant(ImageVariantType variantType) {
+        if (variants == null) return null;
+        return variants.stream()
+                .filter(variant -> variant.getVariantType() == variantType)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String getVariantUrl(ImageVariantType variantType) {
+        PhotoVariant variant = getVariant(variantType);
+        return variant == null ? imageUrl : variant.getImageUrl();
     }
 
 }
@@ -0,0 +1,14 @@
+package com.example.backend.domain;
+
+public enum PhotoStatus {
+    PROCESSING, // 파생 이미지 생성 중
+    READY,      // 조회 가능
+    FAILED;     // 재시도 끝에 처리 실패
+
+    /**
+     * 조회 가능 여부 (null 은 작업 큐 도입 전 사진 -> READY)
+     */
+    public static boolean isReady(PhotoStatus status) {
+        return status == null || status == READY;
+    }
+}
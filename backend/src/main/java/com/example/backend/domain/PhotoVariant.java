@@ -0,0 +1,44 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 시 생성되는 사진 해상도별 파생 이미지
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class PhotoVariant {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_type", nullable = false)
+    private ImageVariantType variantType;
+
+    @Column(name = "image_url", nullable = false)
+    private String imageUrl;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    // 인코딩 프로파일 / 최종 품질 / 결과 크기 (대역폭 절감 측정용, 기존 행은 null)
+    @Column(name = "encoding_profile", length = 32)
+    private String encodingProfile;
+
+    @Column(name = "quality")
+    private Float quality;
+
+    @Column(name = "byte_size")
+    private Long byteSize;
+}
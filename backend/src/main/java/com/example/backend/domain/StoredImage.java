@@ -0,0 +1,91 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내용 해시로 식별되는 저장 이미지
+ * 같은 원본을 올린 사진들은 하나의 원본 / 파생 이미지를 공유하고
+ * refCount 가 0 이 될 때 S3 객체를 삭제
+ * 행 생성은 StoredImageRepository.acquire (upsert) 로만 함
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "stored_images")
+public class StoredImage {
+
+    // 원본 바이트의 SHA-256 (hex)
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "original_key", nullable = false)
+    private String originalKey;
+
+    // 파생 이미지 생성 전에는 null
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    // 유사 이미지 탐지용 64비트 dHash
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
+    // 자리 표시 (BlurHash 문자열, LQIP data URI)
+    @Column(name = "blur_hash", length = 64)
+    private String blurHash;
+
+    @Column(name = "lqip", length = 4000)
+    private String lqip;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "stored_image_variants", joinColumns = @JoinColumn(name = "content_hash"))
+    @BatchSize(size = 100)
+    private List<PhotoVariant> variants = new ArrayList<>();
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isProcessed() {
+        return imageUrl != null;
+    }
+
+    /**
+     * 파생 이미지 생성 완료
+     */
+    public void completeProcessing(String imageUrl, List<PhotoVariant> variants,
+                                   Long perceptualHash, String blurHash, String lqip) {
+        this.imageUrl = imageUrl;
+        this.perceptualHash = perceptualHash;
+        this.blurHash = blurHash;
+        this.lqip = lqip;
+        this.variants.clear();
+        this.variants.addAll(variants);
+    }
+
+    /**
+     * 사진에 복사할 파생 이미지 목록 (임베디드 값은 엔티티마다 새 인스턴스로)
+     */
+    public List<PhotoVariant> copyVariants() {
+        return variants.stream()
+                .map(variant -> PhotoVariant.builder()
+                        .variantType(variant.getVariantType())
+                        .imageUrl(variant.getImageUrl())
+                        .width(variant.getWidth())
+                        .height(variant.getHeight())
+                        .encodingProfile(variant.getEncodingProfile())
+                        .quality(variant.getQuality())
+                        .byteSize(variant.getByteSize())
+                        .build())
+                .toList();
+    }
+}
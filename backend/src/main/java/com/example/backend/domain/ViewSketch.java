@@ -0,0 +1,57 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사진 / 전시회별 순 방문자 HyperLogLog 스케치
+ * registers 는 6비트 레지스터 2048개를 이어 붙인 1536 바이트
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@IdClass(ViewSketch.Key.class)
+@Table(name = "view_sketches")
+public class ViewSketch {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 16)
+    private ViewTarget targetType;
+
+    @Id
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "registers", nullable = false, length = 1536)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private ViewTarget targetType;
+        private Long targetId;
+    }
+
+    public ViewSketch(ViewTarget targetType, Long targetId, byte[] registers) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.backend.domain;
+
+/**
+ * 조회 대상 종류 (순 방문자 스케치 구분용)
+ */
+public enum ViewTarget {
+    PHOTO, EXHIBITION
+}
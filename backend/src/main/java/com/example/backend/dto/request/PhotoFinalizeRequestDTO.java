@@ -0,0 +1,23 @@
+package com.example.backend.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PhotoFinalizeRequestDTO {
+
+    // presign 응답으로 받은 원본 키 목록 (업로드 완료된 것만)
+    @NotEmpty
+    private List<String> keys;
+
+    // 사진 정보 (제목, 설명, 가격, 전시회)
+    @Valid
+    @NotNull
+    private PhotoRequestDTO photo;
+}
@@ -0,0 +1,16 @@
+package com.example.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PhotoPresignRequestDTO {
+
+    // 업로드할 원본 파일 이름 목록 (확장자로 Content-Type 결정)
+    @NotEmpty
+    private List<String> fileNames;
+}
@@ -2,6 +2,7 @@ package com.example.backend.dto.request;
 
 import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoStatus;
 import com.example.backend.domain.Users;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -18,16 +19,21 @@ public class PhotoRequestDTO {
     private String description;
     private Long price;
 
-    public Photo toEntity(Users user, Exhibition exhibition, String imageUrl) {
+    /**
+     * 업로드된 원본으로 생성하는 사진 (파생 이미지는 작업 큐에서 비동기로 채워짐)
+     * contentHash 는 직접 업로드 원본처럼 아직 해시를 모르면 null
+     */
+    public Photo toPendingEntity(Users user, Exhibition exhibition, String originalKey, String contentHash) {
         return Photo.builder()
                 .exhibition(exhibition)
                 .title(this.title)
                 .description(this.description)
                 .price(this.price)
-                .imageUrl(imageUrl)
+                .originalKey(originalKey)
+                .contentHash(contentHash)
+                .status(PhotoStatus.PROCESSING)
                 .user(user)
                 .photoViewCount(0L)
                 .build();
-
     }
 }
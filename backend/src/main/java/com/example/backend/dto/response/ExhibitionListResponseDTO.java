@@ -1,6 +1,7 @@
 package com.example.backend.dto.response;
 
 import com.example.backend.domain.Exhibition;
+import com.example.backend.domain.ImageVariantType;
 
 public record ExhibitionListResponseDTO(
         Long exhibitionId,
@@ -12,7 +13,8 @@ public record ExhibitionListResponseDTO(
         String thumbnailUrl = null;
 
         if (exhibition.getPhotos() != null && !exhibition.getPhotos().isEmpty()) {
-            thumbnailUrl = exhibition.getPhotos().get(0).getImageUrl();
+            // 목록에서는 첫번째 사진의 thumb 파생 이미지 사용
+            thumbnailUrl = exhibition.getPhotos().get(0).getVariantUrl(ImageVariantType.THUMB);
         }
         return new ExhibitionListResponseDTO(
                 exhibition.getExhibitionId(),
@@ -17,6 +17,8 @@ public record ExhibitionResponseDTO(
         String font,
         String fontColor,
         Long exhibitionViewCount,
+        Long uniqueViewerCount,
+        Long commentCount,
         LocalDateTime createdAt,
         Long userId,
         String userEmail,
@@ -50,6 +52,8 @@ public record ExhibitionResponseDTO(
                 exhibition.getFont(),
                 exhibition.getFontColor(),
                 exhibition.getExhibitionViewCount(),
+                exhibition.getUniqueViewerCount(),
+                exhibition.getCommentCount(),
                 exhibition.getCreatedAt(),
                 exhibition.getUser().getUserId(),
                 exhibition.getUser().getEmail(),
@@ -0,0 +1,19 @@
+package com.example.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전시회 목록 요약 (사진 / 작성자 엔티티 없이 목록 카드에 필요한 값만)
+ * coverUrl 은 첫번째 사진의 thumb 파생 이미지, 사진이 없으면 null
+ */
+public record ExhibitionSummaryResponseDTO(
+        Long exhibitionId,
+        String title,
+        String coverUrl,
+        long photoCount,
+        String ownerNickname,
+        Long exhibitionViewCount,
+        Long uniqueViewerCount,
+        LocalDateTime createdAt
+) {
+}
@@ -1,14 +1,21 @@
 package com.example.backend.dto.response;
 
+import com.example.backend.domain.ImageVariantType;
 import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoVariant;
 
 import java.time.LocalDateTime;
 
 public record PhotoCardResponseDTO(
         Long photoId,
-        String imageUrl,
+        String imageUrl, // 카드 크기 (medium) 파생 이미지
+        Integer width,   // 레이아웃 자리 확보용 (medium 크기, 처리 전이면 원본 크기)
+        Integer height,
+        String blurHash,
+        String lqip,
         String title,
         long likeCount,
+        long commentCount,
         long viewCount,
         LocalDateTime createdAt,
         ExhibitionListResponseDTO exhibition
@@ -19,11 +26,17 @@ public record PhotoCardResponseDTO(
             Photo photo,
             long likeCount
     ) {
+        PhotoVariant medium = photo.getVariant(ImageVariantType.MEDIUM);
         return new PhotoCardResponseDTO(
                 photo.getPhotoId(),
-                photo.getImageUrl(),
+                photo.getVariantUrl(ImageVariantType.MEDIUM),
+                medium == null ? photo.getSourceWidth() : medium.getWidth(),
+                medium == null ? photo.getSourceHeight() : medium.getHeight(),
+                photo.getBlurHash(),
+                photo.getLqip(),
                 photo.getTitle(),
                 likeCount,
+                photo.getCommentCount(),
                 photo.getPhotoViewCount(),
                 photo.getCreatedAt(),
                 photo.getExhibition() == null
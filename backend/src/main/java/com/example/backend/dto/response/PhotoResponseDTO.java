@@ -1,6 +1,9 @@
 package com.example.backend.dto.response;
 
+import com.example.backend.domain.ImageVariantType;
 import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoStatus;
+import com.example.backend.domain.PhotoVariant;
 
 import java.time.LocalDateTime;
 
@@ -8,14 +11,34 @@ public record PhotoResponseDTO(
         Long photoId,
         String title,
         String description,
-        String imageUrl,
+        PhotoStatus status,   // PROCESSING 이면 이미지 url 이 아직 비어 있음
+        String imageUrl,      // 상세 보기 (full)
+        String mediumUrl,     // 피드 / 카드
+        String thumbnailUrl,  // 그리드 썸네일
+        Integer width,
+        Integer height,
+        String blurHash,      // 이미지 로딩 전 자리 표시
+        String lqip,          // 저화질 미리보기 (data URI)
         Long price,
         LocalDateTime createdAt,
         Long photoViewCount,
+        Long uniqueViewerCount,  // 순 방문자 수 추정값 (HyperLogLog, 오차 약 2%)
+        Long commentCount,
         Long userId,
         Long exhibitionId,
+        Long duplicateOfPhotoId, // 다른 사용자의 거의 같은 사진 (중복 의심)
+        CaptureDTO capture,      // EXIF 촬영 정보
         UserSimpleDTO userSimpleDTO) {
 
+    public record CaptureDTO(
+            LocalDateTime takenAt,
+            String cameraMake,
+            String cameraModel,
+            String lensModel,
+            Integer iso
+    ) {
+    }
+
     public record UserSimpleDTO(
             Long userId,
             String nickname,
@@ -24,16 +47,35 @@ public record PhotoResponseDTO(
     }
 
     public static PhotoResponseDTO fromEntity(Photo photo) {
+        PhotoVariant full = photo.getVariant(ImageVariantType.FULL);
         return new PhotoResponseDTO(
                 photo.getPhotoId(),
                 photo.getTitle(),
                 photo.getDescription(),
+                photo.getStatus(),
                 photo.getImageUrl(),
+                photo.getVariantUrl(ImageVariantType.MEDIUM),
+                photo.getVariantUrl(ImageVariantType.THUMB),
+                // 처리 전에는 원본 헤더 크기 (비율 계산용)
+                full == null ? photo.getSourceWidth() : full.getWidth(),
+                full == null ? photo.getSourceHeight() : full.getHeight(),
+                photo.getBlurHash(),
+                photo.getLqip(),
                 photo.getPrice(),
                 photo.getCreatedAt(),
                 photo.getPhotoViewCount(),
+                photo.getUniqueViewerCount(),
+                photo.getCommentCount(),
                 photo.getUser().getUserId(),
                 photo.getExhibition() == null ? null : photo.getExhibition().getExhibitionId(),
+                photo.getDuplicateOfPhotoId(),
+                new CaptureDTO(
+                        photo.getTakenAt(),
+                        photo.getCameraMake(),
+                        photo.getCameraModel(),
+                        photo.getLensModel(),
+                        photo.getIso()
+                ),
                 new UserSimpleDTO(
                         photo.getUser().getUserId(),
                         photo.getUser().getNickname(),
@@ -0,0 +1,19 @@
+package com.example.backend.dto.response;
+
+import java.time.Instant;
+
+/**
+ * 브라우저 직접 업로드용 presigned URL
+ *
+ * @param key         업로드 후 finalize 요청에 보낼 원본 키
+ * @param uploadUrl   PUT 요청 URL
+ * @param contentType PUT 요청시 Content-Type 헤더 값
+ * @param expiresAt   URL 만료 시각
+ */
+public record PresignedUploadResponseDTO(
+        String key,
+        String uploadUrl,
+        String contentType,
+        Instant expiresAt
+) {
+}
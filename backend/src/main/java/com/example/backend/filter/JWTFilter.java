@@ -51,11 +51,13 @@ public class JWTFilter extends OncePerRequestFilter {
             log.warn("❌ PROCEED: /photo/my requires authentication.");
             return false;
         }
-        // 1. GET 요청이면서, /photo/* 또는 /exhibition/* 와일드카드 패턴에 해당하는 경우
+        // 1. GET 요청이면서, 공개된 경로에 해당하는 경우
+        // /photo/* , /exhibition/* 는 공개지만 토큰이 있으면 읽어야 하므로 (순 방문자 식별) 필터 실행 (isOptional)
         if (method.equals("GET")) {
             // **GET으로만 공개된 경로**
-            if (pathMatcher.match("/exhibition/*", requestUri) ||
-                    pathMatcher.match("/photo/*", requestUri) ||
+            if (pathMatcher.match("/photo/*/similar", requestUri) ||
+                    pathMatcher.match("/media/**", requestUri) ||
+                    pathMatcher.match("/img/*", requestUri) ||
                     pathMatcher.match("/login/**", requestUri) ||
                     pathMatcher.match("/exhibition/all", requestUri)) {
                 log.warn("✅ Public Match Success! Filter SKIP.");
@@ -86,6 +88,17 @@ public class JWTFilter extends OncePerRequestFilter {
     }
 
 
+    /**
+     * 토큰이 없거나 유효하지 않아도 비로그인으로 통과시키는 공개 조회 경로
+     */
+    private boolean isOptional(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        return request.getMethod().equals("GET")
+                && (pathMatcher.match("/photo/*", requestUri) || pathMatcher.match("/exhibition/*", requestUri))
+                && !pathMatcher.match("/photo/my", requestUri)
+                && !pathMatcher.match("/exhibition/my", requestUri);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -99,7 +112,13 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        boolean optional = isOptional(request);
+
         if (!authorization.startsWith("Bearer ")) {
+            if (optional) {
+                filterChain.doFilter(request, response);
+                return;
+            }
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\":\"인증되지 않은 토큰\"}");
@@ -119,6 +138,9 @@ public class JWTFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(auth); // 현재 요청 스레드의 SecurityContext 안에 auth를 저장
 
             filterChain.doFilter(request, response); // SecurityContext에 인증 정보가 들어있기 때문에, 스프링 시큐리티가 인증된 사용자로 인식함
+        } else if (optional) {
+
+            filterChain.doFilter(request, response); // 공개 조회 경로는 만료 / 잘못된 토큰이면 비로그인으로 처리
         } else {
 
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -3,11 +3,27 @@ package com.example.backend.repository;
 import com.example.backend.domain.Comment;
 import com.example.backend.domain.Photo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 삭제 안된 사진의 댓글 최신순
     List<Comment> findByPhotoAndIsDeletedFalseOrderByCreatedAtDesc(Photo photo);
+
+    // 인기 순위 초기화용 최근 댓글 대상 (photoId, exhibitionId, createdAt), 둘 중 하나만 값이 있음
+    // 사진 댓글은 공개 피드 대상 사진만
+    @Query("""
+            SELECT p.photoId, e.exhibitionId, c.createdAt
+            FROM Comment c
+            LEFT JOIN c.photo p
+            LEFT JOIN c.exhibition e
+            WHERE c.createdAt >= :since AND c.isDeleted = false
+              AND (p.photoId IS NULL OR (p.exhibition IS NULL
+                   AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)))
+            """)
+    List<Object[]> findRecentTargets(@Param("since") LocalDateTime since);
 }
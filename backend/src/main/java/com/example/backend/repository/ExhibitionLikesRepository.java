@@ -4,7 +4,11 @@ import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.ExhibitionLikes;
 import com.example.backend.domain.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ExhibitionLikesRepository extends JpaRepository<ExhibitionLikes, Long> {
@@ -12,5 +16,7 @@ public interface ExhibitionLikesRepository extends JpaRepository<ExhibitionLikes
 
     Optional<ExhibitionLikes> findByExhibitionAndUser(Exhibition exhibition, Users user);
 
-    Long countByExhibition(Exhibition exhibition);
+    // 인기 순위 초기화용 최근 좋아요 (exhibitionId, createdAt)
+    @Query("SELECT l.exhibition.exhibitionId, l.createdAt FROM ExhibitionLikes l WHERE l.createdAt >= :since")
+    List<Object[]> findRecentLikes(@Param("since") LocalDateTime since);
 }
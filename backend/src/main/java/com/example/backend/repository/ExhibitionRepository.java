@@ -2,10 +2,14 @@ package com.example.backend.repository;
 
 import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +47,64 @@ public interface ExhibitionRepository extends JpaRepository<Exhibition, Long> {
     List<Exhibition> findByUserUserIdOrderByCreatedAtDesc(Long userId);
 
     long countByUserUserId(Long userId);
+
+    // 요약 목록 첫 페이지 (exhibitionId, title, 작성자 nickname, 조회수, createdAt, 순 방문자 수)
+    @Query("""
+            SELECT e.exhibitionId, e.title, u.nickname, e.exhibitionViewCount, e.createdAt, e.uniqueViewerCount
+            FROM Exhibition e
+            LEFT JOIN e.user u
+            ORDER BY e.createdAt DESC, e.exhibitionId DESC
+            """)
+    List<Object[]> findSummaries(Pageable pageable);
+
+    // 요약 목록 커서 다음 페이지
+    @Query("""
+            SELECT e.exhibitionId, e.title, u.nickname, e.exhibitionViewCount, e.createdAt, e.uniqueViewerCount
+            FROM Exhibition e
+            LEFT JOIN e.user u
+            WHERE e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.exhibitionId < :exhibitionId)
+            ORDER BY e.createdAt DESC, e.exhibitionId DESC
+            """)
+    List<Object[]> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("exhibitionId") Long exhibitionId,
+                                      Pageable pageable);
+
+    // 요약 목록 id 지정 조회 (인기 순위 등 순서는 호출하는 쪽에서 정함)
+    @Query("""
+            SELECT e.exhibitionId, e.title, u.nickname, e.exhibitionViewCount, e.createdAt, e.uniqueViewerCount
+            FROM Exhibition e
+            LEFT JOIN e.user u
+            WHERE e.exhibitionId IN :exhibitionIds
+            """)
+    List<Object[]> findSummariesByIds(@Param("exhibitionIds") Collection<Long> exhibitionIds);
+
+    // 상세 응답 캐시 버전 (전시회 / 작성자 수정 시각, 조회수, 순 방문자 수, 댓글 수 + 포함된 사진들의 개수 / 최근 수정 시각 / 합계)
+    // 사진 조회수 / 순 방문자 수는 증가만 하므로 합계로 변경 여부를 판단, 사진 댓글 수는 줄 수도 있어 합계와 최댓값을 같이 봄
+    @Query("""
+            SELECT e.updatedAt, e.exhibitionViewCount, e.uniqueViewerCount, e.commentCount, u.updatedAt,
+                   COUNT(p), MAX(p.updatedAt), MAX(pu.updatedAt), SUM(p.photoViewCount), SUM(p.uniqueViewerCount),
+                   SUM(p.commentCount), MAX(p.commentCount)
+            FROM Exhibition e
+            LEFT JOIN e.user u
+            LEFT JOIN e.photos p
+            LEFT JOIN p.user pu
+            WHERE e.exhibitionId = :exhibitionId
+            GROUP BY e.exhibitionId, e.updatedAt, e.exhibitionViewCount, e.uniqueViewerCount, e.commentCount, u.updatedAt
+            """)
+    List<Object[]> findResponseVersion(@Param("exhibitionId") Long exhibitionId);
+
+    // 좋아요 / 댓글 수 증감 (호출한 트랜잭션 안에서 행 잠금으로 원자적으로 반영)
+    @Modifying
+    @Query(value = "UPDATE exhibitions SET like_count = GREATEST(like_count + :delta, 0) WHERE exhibition_id = :exhibitionId",
+            nativeQuery = true)
+    int addLikeCount(@Param("exhibitionId") Long exhibitionId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE exhibitions SET comment_count = GREATEST(comment_count + :delta, 0) WHERE exhibition_id = :exhibitionId",
+            nativeQuery = true)
+    int addCommentCount(@Param("exhibitionId") Long exhibitionId, @Param("delta") long delta);
+
+    // 영속성 컨텍스트의 엔티티 값이 아닌 DB 의 현재 좋아요 수
+    @Query("SELECT e.likeCount FROM Exhibition e WHERE e.exhibitionId = :exhibitionId")
+    long findLikeCount(@Param("exhibitionId") Long exhibitionId);
 }
@@ -0,0 +1,43 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.ImageJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageJobRepository extends JpaRepository<ImageJob, Long> {
+
+    // 가져갈 수 있는 작업 (대기 중이거나 lease 가 만료된 작업)
+    @Query("""
+            SELECT j.imageJobId
+            FROM ImageJob j
+            WHERE (j.status = com.example.backend.domain.ImageJobStatus.PENDING AND j.nextAttemptAt <= :now)
+               OR (j.status = com.example.backend.domain.ImageJobStatus.RUNNING AND j.leaseUntil < :now)
+            ORDER BY j.nextAttemptAt
+            """)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE 로 lease 획득 (1 이면 이 노드가 가져감, 0 이면 다른 노드가 먼저 가져감)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ImageJob j
+            SET j.status = com.example.backend.domain.ImageJobStatus.RUNNING,
+                j.leaseOwner = :owner,
+                j.leaseUntil = :leaseUntil,
+                j.attempts = j.attempts + 1
+            WHERE j.imageJobId = :jobId
+              AND ((j.status = com.example.backend.domain.ImageJobStatus.PENDING AND j.nextAttemptAt <= :now)
+                OR (j.status = com.example.backend.domain.ImageJobStatus.RUNNING AND j.leaseUntil < :now))
+            """)
+    int claim(@Param("jobId") Long jobId,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,14 @@ public interface OrderRepository extends JpaRepository<Orders, Long> {
 
     @Query("SELECT o FROM Orders o JOIN FETCH o.orderItems oi JOIN FETCH oi.photo WHERE o.orderId = :orderId")
     Optional<Orders> findOrderDetailsWithItems(@Param("orderId") Long orderId);
+
+    // 인기 순위 초기화용 최근 주문 사진 (photoId, quantity, 주문 createdAt), 취소된 주문 / 공개 피드 밖 사진 제외
+    @Query("""
+            SELECT p.photoId, oi.quantity, o.createdAt
+            FROM Orders o JOIN o.orderItems oi JOIN oi.photo p
+            WHERE o.createdAt >= :since AND o.orderStatus <> com.example.backend.domain.OrderStatus.CANCELED
+              AND p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+            """)
+    List<Object[]> findRecentOrderedPhotos(@Param("since") LocalDateTime since);
 }
@@ -4,16 +4,27 @@ import com.example.backend.domain.Photo;
 import com.example.backend.domain.PhotoLikes;
 import com.example.backend.domain.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PhotoLikesRepository extends JpaRepository<PhotoLikes, Long> {
 
     Optional<PhotoLikes> findByPhotoAndUser(Photo photo, Users user);
 
-    Long countByPhoto(Photo photo);
-
     boolean existsByPhotoAndUser(Photo photo, Users user);
 
-    long countByPhotoPhotoId(Long photoId);
+    // 인기 순위 초기화용 최근 좋아요 (photoId, createdAt), 공개 피드 대상 사진만
+    @Query("""
+            SELECT p.photoId, l.createdAt
+            FROM PhotoLikes l
+            JOIN l.photo p
+            WHERE l.createdAt >= :since
+              AND p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+            """)
+    List<Object[]> findRecentLikes(@Param("since") LocalDateTime since);
 }
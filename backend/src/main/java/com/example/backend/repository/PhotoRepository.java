@@ -1,12 +1,24 @@
 package com.example.backend.repository;
 
+import com.example.backend.domain.ImageVariantType;
 import com.example.backend.domain.Photo;
 import com.example.backend.domain.Users;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
+
     List<Photo> findByUserAndExhibitionIsNullOrderByCreatedAtDesc(Users user);
 
 
@@ -14,11 +26,49 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
     List<Photo> findAllByOrderByCreatedAtDesc();
 
-    // 최신순 + 전시 없는 사진
-    List<Photo> findByExhibitionIsNullOrderByCreatedAtDesc();
+    // 공개 피드 / 촬영 정보 필터는 READY 사진만 (status null 은 작업 큐 도입 전 사진 = READY)
+    // PROCESSING / FAILED 사진은 이미지 url 이 없으므로 제외
+    // 최신순 + 전시 없는 사진 (첫 페이지)
+    @Query("""
+            SELECT p FROM Photo p
+            WHERE p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+            ORDER BY p.createdAt DESC, p.photoId DESC
+            """)
+    List<Photo> findNewestFeed(Pageable pageable);
+
+    // 최신순 + 전시 없는 사진 (커서 다음 페이지, idx_photos_feed_created 역순 스캔)
+    @Query("""
+            SELECT p FROM Photo p
+            WHERE p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.photoId < :photoId))
+            ORDER BY p.createdAt DESC, p.photoId DESC
+            """)
+    List<Photo> findNewestFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                    @Param("photoId") Long photoId,
+                                    Pageable pageable);
 
-    // 인기순 + 전시 없는 사진
-    List<Photo> findByExhibitionIsNullOrderByPhotoViewCountDesc();
+    // 인기순 (순 방문자 수) + 전시 없는 사진 (첫 페이지)
+    @Query("""
+            SELECT p FROM Photo p
+            WHERE p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+            ORDER BY p.uniqueViewerCount DESC, p.photoId DESC
+            """)
+    List<Photo> findPopularFeed(Pageable pageable);
+
+    // 인기순 (순 방문자 수) + 전시 없는 사진 (커서 다음 페이지, idx_photos_feed_popular 역순 스캔)
+    @Query("""
+            SELECT p FROM Photo p
+            WHERE p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+              AND (p.uniqueViewerCount < :uniqueViewers OR (p.uniqueViewerCount = :uniqueViewers AND p.photoId < :photoId))
+            ORDER BY p.uniqueViewerCount DESC, p.photoId DESC
+            """)
+    List<Photo> findPopularFeedAfter(@Param("uniqueViewers") Long uniqueViewers,
+                                     @Param("photoId") Long photoId,
+                                     Pageable pageable);
 
     // 유저 사진 목록 (유저 페이지)
     List<Photo> findByUserUserIdOrderByCreatedAtDesc(Long userId);
@@ -28,4 +78,82 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
     // 유저 페이지
     List<Photo> findByUserOrderByCreatedAtDesc(Users user);
+
+    // 촬영 정보 필터 (전시 없는 사진, 촬영일 최신순), null 조건은 무시
+    @Query("""
+            SELECT p FROM Photo p
+            WHERE p.exhibition IS NULL
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+              AND (:cameraModel IS NULL OR p.cameraModel = :cameraModel)
+              AND (:takenFrom IS NULL OR p.takenAt >= :takenFrom)
+              AND (:takenTo IS NULL OR p.takenAt < :takenTo)
+            ORDER BY p.takenAt DESC
+            """)
+    List<Photo> findByCapture(@Param("cameraModel") String cameraModel,
+                              @Param("takenFrom") LocalDateTime takenFrom,
+                              @Param("takenTo") LocalDateTime takenTo,
+                              Pageable pageable);
+
+    // 전시회 목록 요약용 전시회별 (exhibitionId, 사진 수, 첫번째 photoId), 처리 중 / 실패한 사진은 빼서 대표 이미지가 비지 않도록 함
+    @Query("""
+            SELECT p.exhibition.exhibitionId, COUNT(p), MIN(p.photoId)
+            FROM Photo p
+            WHERE p.exhibition.exhibitionId IN :exhibitionIds
+              AND (p.status IS NULL OR p.status = com.example.backend.domain.PhotoStatus.READY)
+            GROUP BY p.exhibition.exhibitionId
+            """)
+    List<Object[]> countAndFirstPhotoByExhibitionIds(@Param("exhibitionIds") Collection<Long> exhibitionIds);
+
+    // 사진별 (photoId, 대표 url, 지정한 파생 이미지 url), 파생 이미지가 없으면 세번째 값은 null
+    @Query("""
+            SELECT p.photoId, p.imageUrl, v.imageUrl
+            FROM Photo p
+            LEFT JOIN p.variants v ON v.variantType = :variantType
+            WHERE p.photoId IN :photoIds
+            """)
+    List<Object[]> findVariantUrls(@Param("photoIds") Collection<Long> photoIds,
+                                   @Param("variantType") ImageVariantType variantType);
+
+    // 유사 이미지 인덱스 구성용 (photoId, userId, perceptualHash)
+    @Query("SELECT p.photoId, p.user.userId, p.perceptualHash FROM Photo p WHERE p.perceptualHash IS NOT NULL")
+    List<Object[]> findAllPerceptualHashes();
+
+    // 고아 객체 정리용 참조 키 / url (MySQL 에서 행 단위 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT p.originalKey FROM Photo p WHERE p.originalKey IS NOT NULL")
+    Stream<String> streamOriginalKeys();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT p.imageUrl FROM Photo p WHERE p.imageUrl IS NOT NULL")
+    Stream<String> streamImageUrls();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT v.imageUrl FROM Photo p JOIN p.variants v")
+    Stream<String> streamVariantUrls();
+
+    // 상세 응답 캐시 버전 (수정 시각, 조회수, 순 방문자 수, 작성자 수정 시각, 전시회 id, 상태, 댓글 수), 없는 사진이면 빈 목록
+    // 전시회 id / 상태는 인기 순위 반영 여부 판단에도 사용
+    @Query("""
+            SELECT p.updatedAt, p.photoViewCount, p.uniqueViewerCount, u.updatedAt, e.exhibitionId, p.status, p.commentCount
+            FROM Photo p
+            JOIN p.user u
+            LEFT JOIN p.exhibition e
+            WHERE p.photoId = :photoId
+            """)
+    List<Object[]> findResponseVersion(@Param("photoId") Long photoId);
+
+    // 좋아요 / 댓글 수 증감 (호출한 트랜잭션 안에서 행 잠금으로 원자적으로 반영)
+    @Modifying
+    @Query(value = "UPDATE photos SET like_count = GREATEST(like_count + :delta, 0) WHERE photo_id = :photoId",
+            nativeQuery = true)
+    int addLikeCount(@Param("photoId") Long photoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE photos SET comment_count = GREATEST(comment_count + :delta, 0) WHERE photo_id = :photoId",
+            nativeQuery = true)
+    int addCommentCount(@Param("photoId") Long photoId, @Param("delta") long delta);
+
+    // 영속성 컨텍스트의 엔티티 값이 아닌 DB 의 현재 좋아요 수
+    @Query("SELECT p.likeCount FROM Photo p WHERE p.photoId = :photoId")
+    long findLikeCount(@Param("photoId") Long photoId);
 }
@@ -0,0 +1,35 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.StoredImage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.stream.Stream;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 참조 획득, 없으면 생성 (1 = 새로 생성, 2 = 기존 행 참조 증가)
+    // 영속성 컨텍스트를 비우기 전에 쓰기 지연된 변경을 먼저 반영
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO stored_images (content_hash, original_key, ref_count, created_at)
+            VALUES (:contentHash, :originalKey, 1, NOW())
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int acquire(@Param("contentHash") String contentHash, @Param("originalKey") String originalKey);
+
+    // 참조 해제 (행 잠금은 트랜잭션 끝까지 유지되어 동시 acquire 와 직렬화됨)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 WHERE s.contentHash = :contentHash")
+    int release(@Param("contentHash") String contentHash);
+
+    // 고아 객체 정리용 (contentHash, originalKey), MySQL 에서 행 단위 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT s.contentHash, s.originalKey FROM StoredImage s")
+    Stream<Object[]> streamContentKeys();
+}
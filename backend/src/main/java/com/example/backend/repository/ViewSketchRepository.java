@@ -0,0 +1,17 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.ViewSketch;
+import com.example.backend.domain.ViewTarget;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ViewSketchRepository extends JpaRepository<ViewSketch, ViewSketch.Key> {
+
+    // 병합 후 저장할 때까지 다른 노드의 병합과 직렬화 (id 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ViewSketch> findByTargetTypeAndTargetIdInOrderByTargetId(ViewTarget targetType, Collection<Long> targetIds);
+}
@@ -0,0 +1,181 @@
+package com.example.backend.service.aws;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큰 객체를 S3 멀티파트 업로드로 전송
+ * 파트들은 비동기 클라이언트로 동시에 전송하고, 실패한 파트만 재시도
+ * 최종 실패시 업로드를 abort 해서 미완성 파트가 버킷에 남지 않게 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    // S3 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long threshold;
+    private final long partSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public S3MultipartUploader(S3AsyncClient s3AsyncClient,
+                               @Value("${cloud.aws.s3.multipart.threshold:16777216}") long threshold,
+                               @Value("${cloud.aws.s3.multipart.part-size:8388608}") long partSize,
+                               @Value("${cloud.aws.s3.multipart.concurrency:4}") int concurrency,
+                               @Value("${cloud.aws.s3.multipart.max-attempts:3}") int maxAttempts,
+                               @Value("${cloud.aws.s3.multipart.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.threshold = threshold;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * 파트 데이터 제공자
+     * offset 부터 length 바이트를 복사 없이 ByteBuffer 로 반환
+     */
+    @FunctionalInterface
+    public interface PartSource {
+        ByteBuffer read(long offset, int length) throws IOException;
+    }
+
+    public boolean shouldUseMultipart(long size) {
+        return size >= threshold;
+    }
+
+    /**
+     * 멀티파트 업로드
+     * 동시에 전송하는 파트 수는 concurrency 로 제한
+     * 한 파트라도 재시도 끝에 실패하면 남은 파트 전송을 멈추고 abort
+     * 파트는 offset 순서대로 요청하므로 PartSource 는 순차 스트림이어도 됨
+     */
+    public void upload(String bucket, String key, String contentType, ObjectCannedACL acl, long size, PartSource source) {
+        String uploadId = s3AsyncClient.createMultipartUpload(request -> request
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .acl(acl)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32))
+                .join()
+                .uploadId();
+
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        log.info("S3 multipart upload 시작: {} ({} parts, uploadId={})", key, partCount, uploadId);
+
+        try {
+            Semaphore inFlight = new Semaphore(concurrency);
+            List<CompletableFuture<CompletedPart>> parts = new ArrayList<>(partCount);
+
+            for (int index = 0; index < partCount; index++) {
+                inFlight.acquire();
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlight.release();
+                    break;
+                }
+
+                long offset = index * partSize;
+                int length = (int) Math.min(partSize, size - offset);
+                ByteBuffer data = source.read(offset, length);
+
+                parts.add(uploadPart(bucket, key, uploadId, index + 1, data, 1)
+                        .whenComplete((part, failure) -> inFlight.release()));
+            }
+
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            s3AsyncClient.completeMultipartUpload(request -> request
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(upload -> upload.parts(completedParts)))
+                    .join();
+
+            log.info("S3 multipart upload 완료: {}", key);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId);
+            throw new IllegalArgumentException("S3 멀티파트 업로드 중단", e);
+        } catch (IOException | RuntimeException e) {
+            abort(bucket, key, uploadId);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new IllegalArgumentException("S3 멀티파트 업로드 실패", cause);
+        }
+    }
+
+    /**
+     * 파트 하나 전송, 실패시 지수 백오프 후 이 파트만 다시 전송
+     */
+    private CompletableFuture<CompletedPart> uploadPart(String bucket, String key, String uploadId,
+                                                        int partNumber, ByteBuffer data, int attempt) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) data.remaining())
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                .build();
+
+        return s3AsyncClient.uploadPart(request, AsyncRequestBody.fromByteBufferUnsafe(data.duplicate()))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .checksumCRC32(response.checksumCRC32())
+                        .build())
+                .exceptionallyCompose(failure -> {
+                    if (attempt >= maxAttempts) {
+                        log.error("S3 part {} 업로드 실패 ({}회 시도): {}", partNumber, attempt, failure.getMessage());
+                        return CompletableFuture.failedFuture(failure);
+                    }
+                    long delay = retryBackoffMillis << (attempt - 1);
+                    log.warn("S3 part {} 업로드 재시도 {}/{} ({}ms 후)", partNumber, attempt + 1, maxAttempts, delay);
+
+                    Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> uploadPart(bucket, key, uploadId, partNumber, data, attempt + 1));
+                });
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        try {
+            s3AsyncClient.abortMultipartUpload(request -> request
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId))
+                    .join();
+            log.warn("S3 multipart upload abort: {} (uploadId={})", key, uploadId);
+        } catch (RuntimeException e) {
+            log.error("S3 multipart upload abort 실패: {} (uploadId={}) {}", key, uploadId, e.getMessage());
+        }
+    }
+}
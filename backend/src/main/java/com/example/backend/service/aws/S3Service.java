@@ -1,56 +1,434 @@
 package com.example.backend.service.aws;
 
-import lombok.RequiredArgsConstructor;
+import com.example.backend.domain.ImageVariantType;
+import com.example.backend.domain.PhotoVariant;
+import com.example.backend.dto.response.PresignedUploadResponseDTO;
+import com.example.backend.service.image.ImageBuffer;
+import com.example.backend.service.image.ImageDerivative;
+import com.example.backend.service.image.ImageHeader;
+import com.example.backend.service.image.ImageProbe;
+import com.example.backend.service.image.ImageProcessor;
+import com.example.backend.service.image.ProcessedImage;
+import com.example.backend.service.storage.ImageStorage;
+import com.example.backend.service.storage.PresignedPut;
+import com.example.backend.service.storage.StorageContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * 원본 / 파생 이미지 저장 흐름
+ * 실제 저장은 ImageStorage 구현 (image.storage.type: s3 기본, local) 에 위임
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Client s3Client;
+    // 원본 이미지 키 prefix, 비공개로 저장
+    // 내용 주소 원본은 originals/{sha256}.{ext}, 직접 업로드 후 등록 전 원본은 originals/{userId}/...
+    private static final String ORIGINAL_PREFIX = "originals/";
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 내용 주소 파생 이미지 키 {sha256}_{suffix}.jpg
+    // /s3/upload 등 랜덤 이름 파생 이미지는 이 형식이 아니라 고아 정리 대상에서 빠짐
+    private static final Pattern CONTENT_DERIVATIVE_KEY = Pattern.compile("[0-9a-f]{64}_("
+            + Arrays.stream(ImageVariantType.values()).map(ImageVariantType::getSuffix).collect(Collectors.joining("|"))
+            + ")\\.jpg");
+
+    private final ImageStorage imageStorage;
+    private final ImageProcessor imageProcessor;
+    private final ImageProbe imageProbe;
+    private final TaskExecutor imageProcessingExecutor;
+    private final TaskExecutor s3UploadExecutor;
+    private final DistributionSummary peakMemorySummary;
+    private final Counter spilledCounter;
+
+    @Value("${cloud.aws.s3.presign.expiration-minutes:10}")
+    private long presignExpirationMinutes;
+
+    // 직접 업로드 원본 최대 크기
+    @Value("${image.upload.max-original-bytes:52428800}")
+    private long maxOriginalBytes;
+
+    public S3Service(ImageStorage imageStorage,
+                     ImageProcessor imageProcessor,
+                     ImageProbe imageProbe,
+                     @Qualifier("imageProcessingExecutor") TaskExecutor imageProcessingExecutor,
+                     @Qualifier("s3UploadExecutor") TaskExecutor s3UploadExecutor,
+                     MeterRegistry meterRegistry) {
+        this.imageStorage = imageStorage;
+        this.imageProcessor = imageProcessor;
+        this.imageProbe = imageProbe;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.peakMemorySummary = DistributionSummary.builder("image.upload.buffer.peak")
+                .description("업로드 1건이 동시에 점유한 압축 버퍼 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("image.upload.buffer.spilled")
+                .description("메모리 버퍼를 넘어 임시 파일로 기록된 파생 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * S3에 저장된 이미지 객체의 public url 과 파생 이미지 목록을 반환
+     * 파일마다 [압축 -> S3 PUT] 파이프라인을 만들어 동시에 실행
+     * 압축은 imageProcessingExecutor, PUT 은 s3UploadExecutor 에서 실행되므로
+     * N 번째 파일 PUT 과 N+1 번째 파일 압축이 겹쳐서 진행됨
+     * 결과는 요청한 파일 순서 그대로 반환 (PhotoService 가 순서에 의존)
+     * Executor 가 포화 상태면 RejectedExecutionException -> 503 응답
+     */
+    public List<UploadedImage> upload(List<MultipartFile> files) {
+        log.info("s3 upload ({} files)", files.size());
+
+        // 파일 유효성 / 헤더 검증은 작업 제출 전에 요청 스레드에서 먼저 수행
+        files.forEach(this::probeFile);
+
+        List<CompletableFuture<UploadedImage>> futures = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                futures.add(uploadImageAsync(file));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("s3 upload 거절됨 - 이미지 처리 대기열 포화");
+            futures.forEach(future -> future.cancel(false));
+            throw e;
+        }
+
+        return awaitInOrder(futures);
+    }
 
     /**
-     * S3에 저장된 이미지 객체의 public url을 반환
-     * List 파일들이나 파일을 stream 으로 변환 후
-     * map(this::uploadImage) : 각파일에 대해 uploadImage 메서드 호출
-     * 검증된 모든 파일을 한번에 묶어서 다시 List 로 변환 후 반환
+     * 원본 파일을 디코딩 없이 내용 해시 키 (originals/{sha256}.{ext}) 로 비공개 저장
+     * 같은 내용이 이미 저장돼 있으면 (isStored) PUT 을 생략
+     * 파일마다 s3UploadExecutor 에서 동시에 처리하고, 결과는 요청한 파일 순서 그대로 반환
+     * 파생 이미지는 이미지 작업 큐의 워커가 이 원본으로 생성
      */
-    public List<String> upload(List<MultipartFile> files) {
-        // 각 파일을 업로드하고 url을 리스트로 반환
-        log.info("s3 upload");
-        return files.stream()
-                .map(this::uploadImage)
+    public List<StoredOriginal> storeOriginals(List<MultipartFile> files, Predicate<String> isStored) {
+        log.info("s3 store originals ({} files)", files.size());
+
+        // 헤더 검사는 요청 스레드에서 먼저 (디코딩 / PUT 전에 거절)
+        List<ImageHeader> headers = files.stream()
+                .map(this::probeFile)
                 .toList();
+
+        List<CompletableFuture<StoredOriginal>> futures = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                ImageHeader header = headers.get(i);
+                futures.add(CompletableFuture.supplyAsync(() -> storeOriginal(file, header, isStored), s3UploadExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("s3 원본 저장 거절됨 - 업로드 대기열 포화");
+            futures.forEach(future -> future.cancel(false));
+            throw e;
+        }
+
+        return awaitInOrder(futures);
+    }
+
+    /**
+     * 브라우저가 직접 올린 원본을 내용 해시 키로 옮김
+     * 원본을 한 번 읽어 해시만 계산하고, 새 내용이면 서버측 복사 (바이트가 앱 서버를 거치지 않음)
+     * 업로드된 키는 호출한 쪽이 참조를 기록한 뒤 deleteObject 로 지움
+     */
+    public StoredOriginal adoptOriginal(String uploadedKey, Predicate<String> isStored) {
+        String contentHash;
+        try (InputStream inputStream = imageStorage.open(uploadedKey)) {
+            contentHash = sha256Hex(inputStream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("원본 해시 계산 중 오류 발생", e);
+        }
+
+        // 헤더는 finalize 시점에 이미 검사했으므로 다시 읽지 않음
+        String key = createContentKey(contentHash, uploadedKey.substring(uploadedKey.lastIndexOf('.') + 1).toLowerCase());
+        if (isStored.test(contentHash)) {
+            return new StoredOriginal(contentHash, key, true, null);
+        }
+
+        imageStorage.copy(uploadedKey, key);
+        return new StoredOriginal(contentHash, key, false, null);
+    }
+
+    public void deleteObject(String key) {
+        imageStorage.delete(key);
+    }
+
+    /**
+     * 내용 해시에 해당하는 원본과 파생 이미지 객체 삭제
+     */
+    public void deleteContent(String contentHash, String originalKey) {
+        try {
+            imageStorage.deleteAll(contentKeys(contentHash, originalKey));
+            log.info("Storage Delete Success: {}", contentHash);
+        } catch (RuntimeException e) {
+            log.error("저장소 객체 삭제 실패: {} {}", contentHash, e.getMessage());
+        }
+    }
+
+    /**
+     * 내용 해시 하나가 차지하는 저장소 키 (원본 + 파생 이미지)
+     */
+    public List<String> contentKeys(String contentHash, String originalKey) {
+        List<String> keys = new ArrayList<>();
+        keys.add(originalKey);
+        for (ImageVariantType variantType : ImageVariantType.values()) {
+            keys.add(createDerivativeKey(contentHash, variantType));
+        }
+        return keys;
+    }
+
+    /**
+     * 고아 정리에서 목록을 조회할 prefix (원본 + 파생 이미지 키 첫 글자인 16진수)
+     * 버킷의 다른 객체는 목록에도 올리지 않음
+     */
+    public List<String> managedKeyPrefixes() {
+        List<String> prefixes = new ArrayList<>();
+        prefixes.add(ORIGINAL_PREFIX);
+        for (char c : "0123456789abcdef".toCharArray()) {
+            prefixes.add(String.valueOf(c));
+        }
+        return prefixes;
+    }
+
+    /**
+     * 이 코드가 만들고 DB 로 참조를 추적하는 키인지 (원본, 내용 주소 파생 이미지)
+     */
+    public boolean isManagedKey(String key) {
+        return key.startsWith(ORIGINAL_PREFIX) || CONTENT_DERIVATIVE_KEY.matcher(key).matches();
+    }
+
+    /**
+     * 브라우저 직접 업로드용 presigned PUT URL 발급
+     * 원본은 originals/{userId}/ 아래에 비공개로 저장되고
+     * 클라이언트는 응답의 contentType 을 Content-Type 헤더로 그대로 보내야 함
+     * 서명 url 을 지원하지 않는 저장소 (local) 면 IllegalStateException
+     */
+    public PresignedUploadResponseDTO presignOriginalUpload(Long userId, String filename) {
+        validateFile(filename);
+
+        String key = createOriginalKey(userId, filename);
+        String contentType = contentTypeOf(filename);
+
+        PresignedPut presigned = imageStorage.presignPut(key, contentType, Duration.ofMinutes(presignExpirationMinutes));
+
+        return new PresignedUploadResponseDTO(key, presigned.url(), contentType, presigned.expiresAt());
+    }
+
+    /**
+     * 본인 prefix 로 발급된 원본 키인지 확인
+     */
+    public boolean isOriginalOwnedBy(String key, Long userId) {
+        return key != null
+                && key.startsWith(ORIGINAL_PREFIX + userId + "/")
+                && !key.contains("..");
+    }
+
+    /**
+     * 직접 업로드된 원본이 실제로 존재하는지, 크기 제한 이내인지 확인
+     * 이어서 앞부분만 읽어 헤더를 검사하고, 통과하지 못한 원본은 삭제
+     */
+    public ImageHeader verifyOriginal(String key) {
+        OptionalLong size = imageStorage.size(key);
+        if (size.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 원본 파일이 존재하지 않습니다: " + key);
+        }
+
+        if (size.getAsLong() > maxOriginalBytes) {
+            deleteObject(key);
+            throw new IllegalArgumentException("원본 파일 크기가 너무 큽니다: " + key);
+        }
+
+        // 헤더만 읽으므로 나머지 본문은 받지 않고 연결 종료
+        ImageHeader header;
+        try (InputStream inputStream = imageStorage.openHead(key)) {
+            header = imageProbe.probe(inputStream);
+        } catch (IOException | IllegalArgumentException e) {
+            deleteObject(key);
+            throw new IllegalArgumentException("이미지 헤더 검사 실패: " + key, e);
+        }
+        return header;
+    }
+
+    /**
+     * 원본으로 파생 이미지 생성 후 업로드
+     * 내용 해시 원본이면 파생 이미지 키도 {sha256}_{suffix}.jpg 가 되어 같은 내용은 같은 키를 사용
+     * 호출한 스레드에서 디코딩 / 압축, PUT 은 s3UploadExecutor 에서 실행
+     */
+    public UploadedImage uploadDerivativesFromOriginal(String originalKey) {
+        String fileName = originalKey.substring(originalKey.lastIndexOf('/') + 1);
+        int lastDot = fileName.lastIndexOf('.');
+        String baseName = lastDot > 0 ? fileName.substring(0, lastDot) : fileName;
+
+        ProcessedImage processed;
+        try (InputStream inputStream = imageStorage.open(originalKey)) {
+            processed = imageProcessor.createDerivatives(inputStream);
+        } catch (IOException e) {
+            log.error("원본 이미지 처리 중 오류 발생: {}", e.getMessage());
+            throw new IllegalArgumentException("원본 이미지 처리 중 오류 발생", e);
+        }
+
+        try {
+            return uploadDerivatives(baseName, processed).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalArgumentException("S3 파일 업로드 중 오류 발생", e.getCause());
+        }
+    }
+
+    /**
+     * 파일 하나에 대한 비동기 파이프라인
+     * 압축(CPU) 과 업로드(네트워크) 를 서로 다른 Executor 에서 실행
+     * 파생 이미지들은 같은 baseName 을 공유하는 키로 각각 병렬 업로드
+     * 압축이 끝나기 전에 결과가 취소 / 실패하면 thenCompose 가 실행되지 않으므로
+     * 압축 결과의 버퍼 (스필 파일 포함) 는 업로드와 정리 중 먼저 가져간 쪽이 한 번만 처리
+     */
+    private CompletableFuture<UploadedImage> uploadImageAsync(MultipartFile file) {
+        final String baseName = createBaseName(file.getOriginalFilename());
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        CompletableFuture<ProcessedImage> compressed = CompletableFuture
+                .supplyAsync(() -> compressImage(file), imageProcessingExecutor);
+        CompletableFuture<UploadedImage> uploaded = compressed.thenCompose(processed -> {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            return uploadDerivatives(baseName, processed);
+        });
+
+        compressed.whenComplete((processed, failure) -> {
+            if (processed == null) return;
+            uploaded.whenComplete((image, uploadFailure) -> {
+                if (uploadFailure != null && claimed.compareAndSet(false, true)) {
+                    processed.derivatives().forEach(this::closeQuietly);
+                }
+            });
+        });
+        return uploaded;
+    }
+
+    private CompletableFuture<UploadedImage> uploadDerivatives(String baseName, ProcessedImage processed) {
+        List<ImageDerivative> derivatives = processed.derivatives();
+        recordBufferUsage(derivatives);
+
+        List<CompletableFuture<PhotoVariant>> puts = new ArrayList<>(derivatives.size());
+        try {
+            for (ImageDerivative derivative : derivatives) {
+                puts.add(CompletableFuture.supplyAsync(() -> uploadDerivative(baseName, derivative), s3UploadExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            // 제출하지 못한 파생 이미지 버퍼 반납
+            derivatives.subList(puts.size(), derivatives.size()).forEach(this::closeQuietly);
+            throw e;
+        }
+
+        return CompletableFuture.allOf(puts.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    List<PhotoVariant> variants = puts.stream()
+                            .map(CompletableFuture::join)
+                            .toList();
+                    String imageUrl = variants.stream()
+                            .filter(variant -> variant.getVariantType() == ImageVariantType.FULL)
+                            .map(PhotoVariant::getImageUrl)
+                            .findFirst()
+                            .orElseThrow();
+                    return new UploadedImage(imageUrl, variants,
+                            processed.perceptualHash(), processed.blurHash(), processed.lqip());
+                });
+    }
+
+    /**
+     * 파생 이미지 하나 업로드 후 버퍼 반납
+     */
+    private PhotoVariant uploadDerivative(String baseName, ImageDerivative derivative) {
+        try (derivative) {
+            String s3FileName = createDerivativeKey(baseName, derivative.variantType());
+            String url = uploadImageToS3(s3FileName, derivative.buffer());
+
+            return PhotoVariant.builder()
+                    .variantType(derivative.variantType())
+                    .imageUrl(url)
+                    .width(derivative.width())
+                    .height(derivative.height())
+                    .encodingProfile(derivative.encodingProfile())
+                    .quality(derivative.quality())
+                    .byteSize(derivative.buffer().size())
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 업로드 1건의 파생 이미지 버퍼는 PUT 이 끝날 때까지 동시에 살아 있으므로 합계를 최대 점유량으로 기록
+     */
+    private void recordBufferUsage(List<ImageDerivative> derivatives) {
+        long peakMemoryBytes = 0;
+        for (ImageDerivative derivative : derivatives) {
+            peakMemoryBytes += derivative.buffer().memoryBytes();
+            if (derivative.buffer().isSpilled()) {
+                spilledCounter.increment();
+            }
+        }
+        peakMemorySummary.record(peakMemoryBytes);
+    }
+
+    private void closeQuietly(ImageDerivative derivative) {
+        try {
+            derivative.close();
+        } catch (IOException e) {
+            log.warn("이미지 버퍼 반납 실패: {}", e.getMessage());
+        }
     }
 
     /**
-     * validateFile메서드를 호출하여 유효성 검증 후
-     * uploadImageToS3메서드에 데이터를 반환하여 S3에 파일 업로드,
-     * public url을 받아 서비스 로직에 반환
+     * 제출 순서대로 결과를 모음
+     * 하나라도 실패하면 나머지 작업을 취소하고 원인 예외를 그대로 던짐
      */
-    private String uploadImage(MultipartFile file) {
-        log.info("s3 uploadImage" + file.getOriginalFilename());
-        validateFile(file.getOriginalFilename()); // 파일 유효성 검증
-        return uploadImageToS3(file); // 이미지를 S3에 업로드하고, 저장된 파일의 public url을 서비스 로직에 반환
+    private <T> List<T> awaitInOrder(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalArgumentException("S3 파일 업로드 중 오류 발생", cause);
+        }
+        return results;
     }
 
     /**
@@ -96,62 +474,143 @@ public class S3Service {
     }
 
     /**
-     * 직접적으로 S3에 업로드
-     * 파일을 S3 버킷에 저장하는 AWS SDK 호출이 일어나는 부분
-     * 중복 방지를 피한원본 파일 이름과 10자리 랜덤 문자열 생성후 조합: (s3FileName)
-     *
+     * 확장자 검증 후 헤더 검사 (실제 형식, 크기, 디코딩 폭탄)
      */
-    private String uploadImageToS3(MultipartFile file) {
-        log.info("s3 uploadImageToS3 (Optimizing...)");
+    private ImageHeader probeFile(MultipartFile file) {
+        validateFile(file.getOriginalFilename());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return imageProbe.probe(inputStream);
+        } catch (IOException e) {
+            log.error("s3 probeFile 헤더 읽기 실패: {}", e.getMessage());
+            throw new IllegalArgumentException("이미지 헤더를 읽을 수 없습니다", e);
+        }
+    }
 
-        String originalFilename = file.getOriginalFilename();
+    /**
+     * 중복 방지를 위해 원본 파일 이름과 10자리 랜덤 문자열 조합: (baseName)
+     * 확장자는 제거하고, 파생 이미지마다 "_thumb.jpg" 같은 접미사를 붙여 사용
+     */
+    private String createBaseName(String originalFilename) {
         if (originalFilename == null) originalFilename = "unnamed";
 
-        // 1. 파일명 정제 (공백 제거 등)
-        String sanitizedName = originalFilename.replaceAll("\\s+", "_")
+        // 1. 확장자 제거 (압축 결과는 항상 jpg)
+        int lastDot = originalFilename.lastIndexOf('.');
+        String nameWithoutExtension = lastDot > 0 ? originalFilename.substring(0, lastDot) : originalFilename;
+
+        // 2. 파일명 정제 후 랜덤 문자열 조합
+        return UUID.randomUUID().toString().substring(0, 10) + "_" + sanitize(nameWithoutExtension);
+    }
+
+    private String createOriginalKey(Long userId, String filename) {
+        return ORIGINAL_PREFIX + userId + "/" + UUID.randomUUID().toString().substring(0, 10) + "_" + sanitize(filename);
+    }
+
+    private String createContentKey(String contentHash, String extension) {
+        return ORIGINAL_PREFIX + contentHash + "." + extension;
+    }
+
+    private String createDerivativeKey(String baseName, ImageVariantType variantType) {
+        return baseName + "_" + variantType.getSuffix() + ".jpg";
+    }
+
+    private String sha256Hex(InputStream inputStream) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            digest.update(chunk, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 파일명 정제 (공백 제거 등)
+     */
+    private String sanitize(String name) {
+        return name.replaceAll("\\s+", "_")
                 .replaceAll("[^a-zA-Z0-9가-힣._-]", "");
+    }
 
-        // 2. 임시 파일명 생성
-        String tempName = UUID.randomUUID().toString().substring(0, 10) + "_" + sanitizedName;
-
-        // 3. [에러 해결 포인트] 변수를 재할당하지 않고 최종 파일명을 결정 (effectively final)
-        final String s3FileName = (tempName.toLowerCase().endsWith(".jpg") || tempName.toLowerCase().endsWith(".jpeg"))
-                ? tempName
-                : tempName + ".jpg";
-
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-             InputStream inputStream = file.getInputStream()) {
-
-            // 이미지 최적화
-            Thumbnails.of(inputStream)
-                    .size(1920, 1920)
-                    .outputFormat("jpg")
-                    .outputQuality(0.8)
-                    .toOutputStream(outputStream);
-
-            byte[] compressedBytes = outputStream.toByteArray();
-
-            // S3 업로드 요청 생성
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3FileName) // final 변수 사용
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                    .contentType("image/jpeg")
-                    .contentLength((long) compressedBytes.length)
-                    .build();
+    private String contentTypeOf(String filename) {
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
+        return switch (extension) {
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            default -> "image/jpeg";
+        };
+    }
+
+    /**
+     * 이미지 최적화 (imageProcessingExecutor 에서 실행)
+     * 한 번의 디코딩으로 thumb / medium / full 파생 이미지 생성
+     */
+    private ProcessedImage compressImage(MultipartFile file) {
+        log.info("s3 compressImage {}", file.getOriginalFilename());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return imageProcessor.createDerivatives(inputStream);
+
+        } catch (RejectedExecutionException e) {
+            // 디코딩 메모리 예산 부족 -> 503
+            throw e;
+        } catch (Exception exception) {
+            log.error("이미지 압축 중 오류 발생: {}", exception.getMessage());
+            throw new IllegalArgumentException("이미지 압축 중 오류 발생", exception);
+        }
+    }
+
+    /**
+     * 원본 파일 하나를 비공개로 저장 (s3UploadExecutor 에서 실행)
+     * 해시 계산을 위해 한 번 읽고, 새 내용일 때만 다시 읽어서 PUT
+     * 멀티파트 분할 여부는 저장소 구현이 결정
+     */
+    private StoredOriginal storeOriginal(MultipartFile file, ImageHeader header, Predicate<String> isStored) {
+        String contentType = header.contentType();
+        long size = file.getSize();
+
+        try {
+            String contentHash;
+            try (InputStream inputStream = file.getInputStream()) {
+                contentHash = sha256Hex(inputStream);
+            }
+
+            String key = createContentKey(contentHash, header.extension());
+            if (isStored.test(contentHash)) {
+                log.info("S3 Original 재사용: {}", key);
+                return new StoredOriginal(contentHash, key, true, header);
+            }
 
-            s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(new ByteArrayInputStream(compressedBytes), (long) compressedBytes.length));
+            imageStorage.put(key, contentType, StorageContent.of(file), false);
+            log.info("S3 Original Upload Success: {} (Size: {} KB)", key, size / 1024);
+            return new StoredOriginal(contentHash, key, false, header);
 
-            log.info("S3 Upload Success: {} (Size: {} KB)", s3FileName, compressedBytes.length / 1024);
+        } catch (IOException e) {
+            log.error("S3 원본 업로드 중 오류 발생: {}", e.getMessage());
+            throw new IllegalArgumentException("S3 원본 업로드 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 파생 이미지를 공개 객체로 저장 (s3UploadExecutor 에서 실행)
+     * 요청 body 는 ImageBuffer 를 복사 없이 스트림으로 읽음
+     */
+    private String uploadImageToS3(String s3FileName, ImageBuffer buffer) {
+        try {
+            imageStorage.put(s3FileName, "image/jpeg", buffer, true);
+            log.info("S3 Upload Success: {} (Size: {} KB)", s3FileName, buffer.size() / 1024);
 
         } catch (Exception exception) {
-            log.error("S3 파일 업로드/압축 중 오류 발생: {}", exception.getMessage());
+            log.error("S3 파일 업로드 중 오류 발생: {}", exception.getMessage());
             throw new IllegalArgumentException("S3 파일 업로드 중 오류 발생", exception);
         }
 
-        // 4. 람다식(url -> ...)
-        return s3Client.utilities().getUrl(url -> url.bucket(bucket).key(s3FileName)).toString();
+        return imageStorage.publicUrl(s3FileName);
     }
 }
-
@@ -0,0 +1,16 @@
+package com.example.backend.service.aws;
+
+import com.example.backend.service.image.ImageHeader;
+
+/**
+ * 내용 주소로 저장된 원본
+ * reused 가 true 면 같은 내용이 이미 저장돼 있어 PUT / 복사를 생략한 경우
+ * header 는 업로드 시점에 검사한 헤더 (직접 업로드 원본은 finalize 에서 검사하므로 null)
+ */
+public record StoredOriginal(
+        String contentHash,
+        String key,
+        boolean reused,
+        ImageHeader header
+) {
+}
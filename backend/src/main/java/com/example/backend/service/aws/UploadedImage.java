@@ -0,0 +1,20 @@
+package com.example.backend.service.aws;
+
+import com.example.backend.domain.PhotoVariant;
+
+import java.util.List;
+
+/**
+ * S3 업로드 결과
+ * imageUrl 은 가장 큰 (FULL) 파생 이미지 url
+ * perceptualHash 는 유사 이미지 탐지용 dHash
+ * blurHash / lqip 는 이미지 로딩 전 첫 화면용 자리 표시
+ */
+public record UploadedImage(
+        String imageUrl,
+        List<PhotoVariant> variants,
+        long perceptualHash,
+        String blurHash,
+        String lqip
+) {
+}
@@ -0,0 +1,123 @@
+package com.example.backend.service.cache;
+
+import com.example.backend.domain.ViewTarget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 상세 응답 (사진 / 전시회) JSON 바이트 캐시
+ * 대상 id 마다 버전 문자열 (updatedAt + 조회수 등) 과 직렬화된 UTF-8 바이트를 저장
+ * 버전이 같으면 엔티티 로딩 / DTO 변환 / 직렬화 없이 저장된 바이트를 그대로 응답
+ * 버전이 바뀌면 새로 만들어 교체하므로 별도 무효화 이벤트가 필요 없음
+ * 전체 바이트 수가 max-bytes 를 넘으면 오래 안 쓴 항목부터 제거 (LRU)
+ */
+@Component
+public class ResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Map<ViewTarget, Meters> meters = new EnumMap<>(ViewTarget.class);
+
+    // (대상 종류, id) -> 항목, 접근 순서 (LRU)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long storedBytes;
+
+    public ResponseCache(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${response.cache.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        for (ViewTarget target : ViewTarget.values()) {
+            meters.put(target, new Meters(meterRegistry, target));
+        }
+        Gauge.builder("response.cache.stored.bytes", this, ResponseCache::storedBytes)
+                .description("상세 응답 캐시에 저장된 바이트 수")
+                .register(meterRegistry);
+    }
+
+    private record Key(ViewTarget target, Long id) {
+    }
+
+    private record Entry(String version, byte[] body) {
+    }
+
+    /**
+     * 버전이 같은 항목이 있으면 그 바이트, 없으면 loader 결과를 직렬화해서 저장
+     * 같은 항목을 동시에 만들면 마지막 결과가 남음 (버전이 같으면 내용도 같음)
+     */
+    public byte[] get(ViewTarget target, Long id, String version, Supplier<Object> loader) {
+        Key key = new Key(target, id);
+        Meters meter = meters.get(target);
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.version().equals(version)) {
+                meter.hits.increment();
+                meter.bytesSaved.increment(cached.body().length);
+                return cached.body();
+            }
+        }
+        meter.misses.increment();
+
+        byte[] body = serialize(loader.get());
+        put(key, new Entry(version, body));
+        return body;
+    }
+
+    private synchronized void put(Key key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        storedBytes += entry.body().length - (previous == null ? 0 : previous.body().length);
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (storedBytes > maxBytes && eldest.hasNext()) {
+            storedBytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized long storedBytes() {
+        return storedBytes;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 대상 종류별 적중 / 미적중 수와 캐시로 아낀 직렬화 바이트 수
+     */
+    private static final class Meters {
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter bytesSaved;
+
+        private Meters(MeterRegistry meterRegistry, ViewTarget target) {
+            String type = target.name().toLowerCase();
+            this.hits = Counter.builder("response.cache.requests").tag("type", type).tag("result", "hit")
+                    .description("상세 응답 캐시 요청 수")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("response.cache.requests").tag("type", type).tag("result", "miss")
+                    .description("상세 응답 캐시 요청 수")
+                    .register(meterRegistry);
+            this.bytesSaved = Counter.builder("response.cache.bytes.saved").tag("type", type)
+                    .description("캐시에서 바로 응답해 직렬화하지 않은 바이트 수")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+}
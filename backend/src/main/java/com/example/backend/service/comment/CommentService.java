@@ -4,12 +4,15 @@ import com.example.backend.domain.Comment;
 import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.Photo;
 import com.example.backend.domain.Users;
+import com.example.backend.domain.ViewTarget;
 import com.example.backend.dto.request.CommentRequestDTO;
 import com.example.backend.dto.response.CommentResponseDTO;
 import com.example.backend.repository.CommentRepository;
 import com.example.backend.repository.ExhibitionRepository;
 import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +32,7 @@ public class CommentService {
     private final PhotoRepository photoRepository;
     private final ExhibitionRepository exhibitionRepository;
     private final CommentRepository commentRepository;
+    private final TrendingEngine trendingEngine;
 
 
     /**
@@ -60,6 +64,14 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        addCommentCount(savedComment, 1);
+        if (photo != null) {
+            if (photo.isFeedEligible()) {
+                trendingEngine.record(ViewTarget.PHOTO, photo.getPhotoId(), TrendingSignal.COMMENT);
+            }
+        } else {
+            trendingEngine.record(ViewTarget.EXHIBITION, exhibition.getExhibitionId(), TrendingSignal.COMMENT);
+        }
 
         return CommentResponseDTO.fromEntity(savedComment, true);
     }
@@ -122,10 +134,37 @@ public class CommentService {
             throw new IllegalArgumentException("소유자만 삭제 할 수 있습니다");
         }
 
-        comment.deleteComment();
+        // 이미 삭제된 댓글이면 댓글 수를 다시 줄이지 않음
+        if (!Boolean.TRUE.equals(comment.getIsDeleted())) {
+            comment.deleteComment();
+            addCommentCount(comment, -1);
+            retractTrending(comment);
+        }
+
+    }
+
 
+    /**
+     * 댓글 대상 (사진 / 전시) 의 comment_count 증감
+     */
+    private void addCommentCount(Comment comment, long delta) {
+        if (comment.getPhoto() != null) {
+            photoRepository.addCommentCount(comment.getPhoto().getPhotoId(), delta);
+        } else if (comment.getExhibition() != null) {
+            exhibitionRepository.addCommentCount(comment.getExhibition().getExhibitionId(), delta);
+        }
     }
 
+    /**
+     * 삭제된 댓글의 인기 점수 되돌림 (작성 시각 기준으로 감쇠된 기여분만)
+     */
+    private void retractTrending(Comment comment) {
+        if (comment.getPhoto() != null) {
+            trendingEngine.retract(ViewTarget.PHOTO, comment.getPhoto().getPhotoId(), TrendingSignal.COMMENT, comment.getCreatedAt());
+        } else if (comment.getExhibition() != null) {
+            trendingEngine.retract(ViewTarget.EXHIBITION, comment.getExhibition().getExhibitionId(), TrendingSignal.COMMENT, comment.getCreatedAt());
+        }
+    }
 
     /**
      * 유효성 검증
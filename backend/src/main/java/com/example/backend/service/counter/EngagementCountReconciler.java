@@ -0,0 +1,135 @@
+package com.example.backend.service.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사진 / 전시회 좋아요 / 댓글 수 보정
+ * like_count / comment_count 는 ± 1 로만 바뀌므로 중복 좋아요 경합 등으로 어긋나면 계속 어긋난 채로 남음
+ * 컬럼 추가 직후에는 모두 0 이므로 컬럼을 추가하는 배포에서만 counter.reconcile.on-startup=true 로 한 번 채움
+ * (기본값 false, 매 기동마다 전체 테이블을 잠그며 돌지 않도록)
+ * id 범위를 batch-size 씩 나눠 범위마다 한 트랜잭션에서 행을 먼저 잠그고 (SELECT ... FOR UPDATE) 다시 세어 다른 행만 UPDATE
+ * 세기 전에 잠그므로 그 사이 커밋된 좋아요 / 댓글의 ± 1 은 잠금을 기다렸다가 보정값 위에 더해짐
+ */
+@Slf4j
+@Service
+public class EngagementCountReconciler {
+
+    private static final String PHOTO_LIKES = """
+            UPDATE photos p
+            LEFT JOIN (SELECT photo_id, COUNT(*) AS cnt FROM photo_likes
+                       WHERE photo_id BETWEEN ? AND ? GROUP BY photo_id) c ON c.photo_id = p.photo_id
+            SET p.like_count = COALESCE(c.cnt, 0)
+            WHERE p.photo_id BETWEEN ? AND ? AND p.like_count <> COALESCE(c.cnt, 0)
+            """;
+    private static final String PHOTO_COMMENTS = """
+            UPDATE photos p
+            LEFT JOIN (SELECT photo_id, COUNT(*) AS cnt FROM comments
+                       WHERE photo_id BETWEEN ? AND ? AND is_deleted = false GROUP BY photo_id) c ON c.photo_id = p.photo_id
+            SET p.comment_count = COALESCE(c.cnt, 0)
+            WHERE p.photo_id BETWEEN ? AND ? AND p.comment_count <> COALESCE(c.cnt, 0)
+            """;
+    private static final String EXHIBITION_LIKES = """
+            UPDATE exhibitions e
+            LEFT JOIN (SELECT exhibition_id, COUNT(*) AS cnt FROM exhibition_likes
+                       WHERE exhibition_id BETWEEN ? AND ? GROUP BY exhibition_id) c ON c.exhibition_id = e.exhibition_id
+            SET e.like_count = COALESCE(c.cnt, 0)
+            WHERE e.exhibition_id BETWEEN ? AND ? AND e.like_count <> COALESCE(c.cnt, 0)
+            """;
+    private static final String EXHIBITION_COMMENTS = """
+            UPDATE exhibitions e
+            LEFT JOIN (SELECT exhibition_id, COUNT(*) AS cnt FROM comments
+                       WHERE exhibition_id BETWEEN ? AND ? AND is_deleted = false GROUP BY exhibition_id) c ON c.exhibition_id = e.exhibition_id
+            SET e.comment_count = COALESCE(c.cnt, 0)
+            WHERE e.exhibition_id BETWEEN ? AND ? AND e.comment_count <> COALESCE(c.cnt, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean onStartup;
+    private final Counter repairedPhotos;
+    private final Counter repairedExhibitions;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public EngagementCountReconciler(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${counter.reconcile.batch-size:1000}") int batchSize,
+                                     @Value("${counter.reconcile.on-startup:false}") boolean onStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.onStartup = onStartup;
+        this.repairedPhotos = Counter.builder("counter.reconcile.repaired").tag("type", "photo")
+                .description("보정한 좋아요 / 댓글 수 행")
+                .register(meterRegistry);
+        this.repairedExhibitions = Counter.builder("counter.reconcile.repaired").tag("type", "exhibition")
+                .description("보정한 좋아요 / 댓글 수 행")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!onStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("기동시 좋아요 / 댓글 수 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 사진 / 전시회 보정 (이미 실행 중이면 건너뜀)
+     */
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("좋아요 / 댓글 수 보정이 이미 실행 중");
+            return;
+        }
+        try {
+            long photos = reconcile("photos", "photo_id", PHOTO_LIKES, PHOTO_COMMENTS);
+            long exhibitions = reconcile("exhibitions", "exhibition_id", EXHIBITION_LIKES, EXHIBITION_COMMENTS);
+            repairedPhotos.increment(photos);
+            repairedExhibitions.increment(exhibitions);
+            log.info("좋아요 / 댓글 수 보정 완료: 사진 {}건, 전시회 {}건", photos, exhibitions);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long reconcile(String table, String idColumn, String... statements) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+
+        String lockSql = "SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " BETWEEN ? AND ? FOR UPDATE";
+        long repaired = 0;
+        for (long from = 1; from <= maxId; from += batchSize) {
+            long start = from;
+            long end = Math.min(from + batchSize - 1, maxId);
+            Long updated = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForList(lockSql, Long.class, start, end);
+                long count = 0;
+                for (String sql : statements) {
+                    count += jdbcTemplate.update(sql, start, end, start, end);
+                }
+                return count;
+            });
+            repaired += updated == null ? 0 : updated;
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.service.exhibition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 전시회 목록 키셋 커서 (마지막으로 받은 전시회의 createdAt + exhibitionId)
+ * 클라이언트에는 Base64URL 문자열로만 전달
+ */
+public record ExhibitionCursor(LocalDateTime createdAt, Long exhibitionId) {
+
+    public String encode() {
+        String raw = createdAt + "|" + exhibitionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서는 IllegalArgumentException (400)
+     */
+    public static ExhibitionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return new ExhibitionCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.example.backend.service.exhibition;
 import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.ExhibitionLikes;
 import com.example.backend.domain.Users;
+import com.example.backend.domain.ViewTarget;
 import com.example.backend.dto.response.ExhibitionLikesResponseDTO;
 import com.example.backend.repository.ExhibitionLikesRepository;
 import com.example.backend.repository.ExhibitionRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,15 +27,17 @@ public class ExhibitionLikesService {
     private final UserRepository userRepository;
     private final ExhibitionRepository exhibitionRepository;
     private final ExhibitionLikesRepository exhibitionLikesRepository;
+    private final TrendingEngine trendingEngine;
 
 
     /**
      * 전시 좋아요 메서드
+     * 좋아요 수는 같은 트랜잭션에서 like_count 를 ± 1 (COUNT 조회 없음)
      *
      * @param exhibitionId
      * @return
      */
-
+    @Transactional
     public ExhibitionLikesResponseDTO toggleLike(Long exhibitionId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
@@ -47,17 +52,20 @@ public class ExhibitionLikesService {
 
         if (existingLike.isPresent()) {
             exhibitionLikesRepository.delete(existingLike.get());
-            long count = exhibitionLikesRepository.countByExhibition(exhibition);
-            return new ExhibitionLikesResponseDTO(count, false);
+            exhibitionRepository.addLikeCount(exhibitionId, -1);
+            // 좋아요를 누른 시각 기준으로 감쇠된 기여분만 되돌림
+            trendingEngine.retract(ViewTarget.EXHIBITION, exhibitionId, TrendingSignal.LIKE, existingLike.get().getCreatedAt());
+            return new ExhibitionLikesResponseDTO(exhibitionRepository.findLikeCount(exhibitionId), false);
         }
         ExhibitionLikes likes = ExhibitionLikes.builder()
                 .exhibition(exhibition)
                 .user(user)
                 .build();
         exhibitionLikesRepository.save(likes);
+        exhibitionRepository.addLikeCount(exhibitionId, 1);
+        trendingEngine.record(ViewTarget.EXHIBITION, exhibitionId, TrendingSignal.LIKE);
 
-        long count = exhibitionLikesRepository.countByExhibition(exhibition);
-        return new ExhibitionLikesResponseDTO(count, true);
+        return new ExhibitionLikesResponseDTO(exhibitionRepository.findLikeCount(exhibitionId), true);
 
     }
 
@@ -72,7 +80,7 @@ public class ExhibitionLikesService {
         Exhibition exhibition = exhibitionRepository.findById(exhibitionId)
                 .orElseThrow(() -> new EntityNotFoundException("Exhibition not found"));
 
-        long likeCount = exhibitionLikesRepository.countByExhibition(exhibition);
+        long likeCount = exhibition.getLikeCount();
 
         boolean liked = false;
         if (email != null) {
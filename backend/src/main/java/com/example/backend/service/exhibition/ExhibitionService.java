@@ -1,31 +1,66 @@
 package com.example.backend.service.exhibition;
 
 import com.example.backend.domain.Exhibition;
+import com.example.backend.domain.ImageVariantType;
+import com.example.backend.domain.Photo;
 import com.example.backend.domain.Users;
+import com.example.backend.domain.ViewTarget;
 import com.example.backend.dto.request.ExhibitionRequestDTO;
 import com.example.backend.dto.response.ExhibitionListResponseDTO;
 import com.example.backend.dto.response.ExhibitionResponseDTO;
+import com.example.backend.dto.response.ExhibitionSummaryResponseDTO;
 import com.example.backend.dto.response.TemplateResponseDTO;
 import com.example.backend.repository.ExhibitionRepository;
+import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.cache.ResponseCache;
+import com.example.backend.service.feed.FeedChangedEvent;
+import com.example.backend.service.image.PerceptualHashIndex;
+import com.example.backend.service.image.StoredImageService;
 import com.example.backend.service.template.TemplateService;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
+import com.example.backend.service.view.UniqueViewerCounter;
+import com.example.backend.service.view.ViewCountBuffer;
+import com.example.backend.service.view.ViewerFingerprint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExhibitionService {
+
+    // 요약 목록 한 페이지 최대 전시회 수
+    public static final int SUMMARY_MAX_PAGE_SIZE = 100;
+
     private final ExhibitionRepository exhibitionRepository;
+    private final PhotoRepository photoRepository;
     private final UserRepository userRepository;
     private final TemplateService templateService;
+    private final StoredImageService storedImageService;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final ViewerFingerprint viewerFingerprint;
+    private final TrendingEngine trendingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResponseCache responseCache;
 
 
     /**
@@ -53,6 +88,7 @@ public class ExhibitionService {
 
         // DB 에 저장과 동시에 DB에서 생성된 값을 채워서 반환
         Exhibition saved = exhibitionRepository.save(exhibition);
+        eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.EXHIBITION));
 
         // 응답 DTO 변환 (저장한 값을 컨트롤러를 통해 클라이언트에 전달)
         return ExhibitionResponseDTO.fromEntity(saved);
@@ -75,17 +111,132 @@ public class ExhibitionService {
                 .toList(); // 스트림 타입을 다시 리스트로 변환
     }
 
+    /**
+     * 전시회 요약 목록 (커서 페이지네이션)
+     * 사진 / 작성자 엔티티를 불러오지 않고 페이지 크기와 관계없이 쿼리 3번으로 조회
+     * 1) 전시회 + 작성자 nickname  2) 전시회별 사진 수 / 첫번째 사진  3) 첫번째 사진 thumb url
+     */
+    @Transactional(readOnly = true)
+    public ExhibitionSummaryPage getExhibitionSummaries(String cursorToken, int size) {
+        ExhibitionCursor cursor = cursorToken == null || cursorToken.isBlank() ? null : ExhibitionCursor.decode(cursorToken);
+        int pageSize = clampSummarySize(size);
+        // 한 개 더 조회해서 다음 페이지 존재 여부 확인
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Object[]> rows = cursor == null
+                ? exhibitionRepository.findSummaries(limit)
+                : exhibitionRepository.findSummariesAfter(cursor.createdAt(), cursor.exhibitionId(), limit);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Object[] last = rows.get(pageSize - 1);
+            nextCursor = new ExhibitionCursor((LocalDateTime) last[4], (Long) last[0]).encode();
+        }
+        return new ExhibitionSummaryPage(toSummaries(rows), nextCursor);
+    }
+
+    /**
+     * 시간 감쇠 인기 순위 상위 전시회 요약 (TrendingEngine 메모리 순위)
+     * 요약 조회는 일반 목록과 같은 쿼리 3번
+     * 삭제된 전시회는 순위에서 빼고 다음 순위로 채움
+     */
+    @Transactional(readOnly = true)
+    public List<ExhibitionSummaryResponseDTO> getTrendingExhibitions(int size) {
+        int pageSize = clampSummarySize(size);
+        List<Long> ranked = trendingEngine.top(ViewTarget.EXHIBITION);
+
+        List<ExhibitionSummaryResponseDTO> page = new ArrayList<>(pageSize);
+        int position = 0;
+        while (page.size() < pageSize && position < ranked.size()) {
+            List<Long> window = ranked.subList(position, Math.min(position + pageSize - page.size(), ranked.size()));
+            position += window.size();
+
+            // 순위 순서 유지
+            Map<Long, ExhibitionSummaryResponseDTO> summaries = new HashMap<>();
+            for (ExhibitionSummaryResponseDTO summary : toSummaries(exhibitionRepository.findSummariesByIds(window))) {
+                summaries.put(summary.exhibitionId(), summary);
+            }
+            for (Long exhibitionId : window) {
+                ExhibitionSummaryResponseDTO summary = summaries.get(exhibitionId);
+                if (summary == null) {
+                    trendingEngine.remove(ViewTarget.EXHIBITION, exhibitionId);
+                    continue;
+                }
+                page.add(summary);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 요약 목록 페이지 크기 (1 ~ SUMMARY_MAX_PAGE_SIZE)
+     */
+    public static int clampSummarySize(int size) {
+        return Math.max(1, Math.min(size, SUMMARY_MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 요약 행 (findSummaries 형식) 에 사진 수 / 대표 이미지를 붙여서 변환
+     */
+    private List<ExhibitionSummaryResponseDTO> toSummaries(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> exhibitionIds = rows.stream().map(row -> (Long) row[0]).toList();
+
+        // exhibitionId -> {사진 수, 첫번째 photoId}
+        Map<Long, Object[]> photoStats = new HashMap<>();
+        for (Object[] row : photoRepository.countAndFirstPhotoByExhibitionIds(exhibitionIds)) {
+            photoStats.put((Long) row[0], row);
+        }
+
+        // 첫번째 photoId -> thumb url (파생 이미지가 없으면 대표 url)
+        Map<Long, String> coverUrls = new HashMap<>();
+        List<Long> coverPhotoIds = photoStats.values().stream().map(stats -> (Long) stats[2]).toList();
+        if (!coverPhotoIds.isEmpty()) {
+            for (Object[] row : photoRepository.findVariantUrls(coverPhotoIds, ImageVariantType.THUMB)) {
+                coverUrls.put((Long) row[0], row[2] != null ? (String) row[2] : (String) row[1]);
+            }
+        }
+
+        return rows.stream()
+                .map(row -> {
+                    Object[] stats = photoStats.get((Long) row[0]);
+                    return new ExhibitionSummaryResponseDTO(
+                            (Long) row[0],
+                            (String) row[1],
+                            stats == null ? null : coverUrls.get((Long) stats[2]),
+                            stats == null ? 0 : (Long) stats[1],
+                            (String) row[2],
+                            (Long) row[3],
+                            (Long) row[5],
+                            (LocalDateTime) row[4]);
+                })
+                .toList();
+    }
+
     /**
      * 단일 전시 조회
      * PathVariable 통해 들어온 전시회 id 값을 가져와서 조회
+     * 조회수는 버퍼에 모았다가 주기적으로 반영 (읽기 전용 트랜잭션)
+     * 응답은 직렬화된 JSON 바이트 (ResponseCache)
      */
-    @Transactional
-    public ExhibitionResponseDTO getExhibitionById(Long exhibitionId) {
-        Exhibition exhibition = exhibitionRepository.findByIdWithPhotos(exhibitionId)
-                .orElseThrow(() -> new UsernameNotFoundException("존재 하지 않는 유저 입니다."));
-        exhibition.increaseViewCount();
+    @Transactional(readOnly = true)
+    public byte[] getExhibitionById(Long exhibitionId) {
+        List<Object[]> versions = exhibitionRepository.findResponseVersion(exhibitionId);
+        if (versions.isEmpty()) {
+            throw new UsernameNotFoundException("존재 하지 않는 유저 입니다.");
+        }
+        viewCountBuffer.recordExhibitionView(exhibitionId);
+        uniqueViewerCounter.recordView(ViewTarget.EXHIBITION, exhibitionId, viewerFingerprint.current());
+        trendingEngine.record(ViewTarget.EXHIBITION, exhibitionId, TrendingSignal.VIEW);
 
-        return ExhibitionResponseDTO.fromEntity(exhibition);
+        // 버전이 같으면 전시회 + 사진 목록을 읽지 않고 캐시된 JSON 바이트로 응답
+        return responseCache.get(ViewTarget.EXHIBITION, exhibitionId, Arrays.toString(versions.get(0)), () ->
+                ExhibitionResponseDTO.fromEntity(exhibitionRepository.findByIdWithPhotos(exhibitionId)
+                        .orElseThrow(() -> new UsernameNotFoundException("존재 하지 않는 유저 입니다."))));
     }
 
     /**
@@ -125,6 +276,7 @@ public class ExhibitionService {
 
         // 수정할 필드들만 업데이트
         exhibition.updateExhibition(dto);
+        eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.EXHIBITION));
 
         // 2. DB에 변경사항 자동 반영 (Dirty Checking)
         return ExhibitionResponseDTO.fromEntity(exhibition);
@@ -143,7 +295,23 @@ public class ExhibitionService {
             throw new AccessDeniedException("소유자만 삭제 할 수 있습니다.");
         }
 
+        // 함께 삭제되는 사진들의 이미지 참조 해제 (마지막 참조면 커밋 후 객체 삭제)
+        List<Photo> photos = exhibition.getPhotos() == null ? List.of() : exhibition.getPhotos();
+        List<String> contentHashes = photos.stream()
+                .map(Photo::getContentHash)
+                .filter(Objects::nonNull)
+                .toList();
+        photos.forEach(photo -> perceptualHashIndex.remove(photo.getPhotoId()));
+
         exhibitionRepository.delete(exhibition);
+        contentHashes.forEach(storedImageService::release);
+        trendingEngine.remove(ViewTarget.EXHIBITION, exhibitionId);
+
+        // 함께 삭제된 사진이 있으면 사진 목록도 비움
+        eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.EXHIBITION));
+        if (!photos.isEmpty()) {
+            eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.PHOTO));
+        }
     }
 
 
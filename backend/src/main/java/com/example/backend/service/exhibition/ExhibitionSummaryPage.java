@@ -0,0 +1,12 @@
+package com.example.backend.service.exhibition;
+
+import com.example.backend.dto.response.ExhibitionSummaryResponseDTO;
+
+import java.util.List;
+
+/**
+ * 전시회 요약 목록 한 페이지
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record ExhibitionSummaryPage(List<ExhibitionSummaryResponseDTO> exhibitions, String nextCursor) {
+}
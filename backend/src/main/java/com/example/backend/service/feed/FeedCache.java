@@ -0,0 +1,195 @@
+package com.example.backend.service.feed;
+
+import com.example.backend.domain.ViewTarget;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공개 목록 앞쪽 페이지 캐시 (JSON 직렬화된 바이트 + 다음 커서)
+ * 첫 페이지와 거기서 이어지는 다음 커서 pages 개까지만 캐시
+ * 목록마다 max-entries 개를 넘으면 만료된 항목, 그 다음 오래 안 쓴 항목부터 제거 (LRU)
+ * 사진 / 전시회 변경이 커밋되면 FeedChangedEvent 로 해당 목록 전체를 비움
+ * 비운 직후 몰리는 요청은 한 요청만 DB 에서 다시 만들고 나머지는 그 결과를 기다림
+ * 조회수 / 인기 점수 변화는 이벤트가 없으므로 ttl 이 지나면 다시 만듦
+ */
+@Slf4j
+@Component
+public class FeedCache {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final int pages;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<ViewTarget, Feed> feeds = new EnumMap<>(ViewTarget.class);
+
+    public FeedCache(ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry,
+                     @Value("${feed.cache.ttl-ms:10000}") long ttlMillis,
+                     @Value("${feed.cache.pages:3}") int pages,
+                     @Value("${feed.cache.max-entries:256}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlMillis;
+        this.pages = pages;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("feed.cache.requests").tag("result", "hit")
+                .description("공개 목록 캐시 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("feed.cache.requests").tag("result", "miss")
+                .description("공개 목록 캐시 요청 수")
+                .register(meterRegistry);
+        for (ViewTarget target : ViewTarget.values()) {
+            feeds.put(target, new Feed());
+        }
+    }
+
+    /**
+     * 직렬화된 응답 본문과 다음 페이지 커서
+     */
+    public record Page(byte[] body, String nextCursor) {
+    }
+
+    private record Entry(Page page, long createdAt, int depth) {
+    }
+
+    /**
+     * 목록 하나 (사진 / 전시회) 의 캐시 항목과 세대 번호
+     * 세대는 비울 때마다 증가, 만드는 도중 비워졌으면 결과를 저장하지 않음
+     * entries / cursorDepths 는 접근 순서 LinkedHashMap 이라 Feed 객체로 동기화
+     */
+    private static final class Feed {
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private final ConcurrentHashMap<String, CompletableFuture<Page>> inFlight = new ConcurrentHashMap<>();
+        // scope + 커서 -> 캐시된 페이지가 발급한 다음 커서의 깊이
+        private final LinkedHashMap<String, Integer> cursorDepths = new LinkedHashMap<>(64, 0.75f, true);
+        private final AtomicLong generation = new AtomicLong();
+    }
+
+    /**
+     * scope 는 정렬 / 페이지 크기 등 커서 외 조건 (예: "newest:30")
+     * 캐시 대상이 아닌 커서 (앞쪽 pages 개 밖) 는 loader 를 바로 호출
+     */
+    public Page get(ViewTarget target, String scope, String cursor, Supplier<Page> loader) {
+        Feed feed = feeds.get(target);
+        String key = cursor == null || cursor.isBlank() ? scope : scope + "|" + cursor;
+        Integer depth;
+        Entry cached;
+        synchronized (feed) {
+            depth = key.equals(scope) ? Integer.valueOf(0) : feed.cursorDepths.get(key);
+            cached = feed.entries.get(key);
+        }
+        if (depth == null || depth >= pages) {
+            return loader.get();
+        }
+
+        if (cached != null && System.currentTimeMillis() - cached.createdAt() < ttlMillis) {
+            hits.increment();
+            return cached.page();
+        }
+        misses.increment();
+
+        CompletableFuture<Page> created = new CompletableFuture<>();
+        CompletableFuture<Page> running = feed.inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return await(running);
+        }
+
+        long generation = feed.generation.get();
+        try {
+            Page page = loader.get();
+            store(feed, generation, scope, key, depth, page);
+            created.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            feed.inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 기존 항목은 무조건 교체, 개수가 넘치면 만료된 항목 -> 오래 안 쓴 항목 순으로 제거
+     */
+    private void store(Feed feed, long generation, String scope, String key, int depth, Page page) {
+        long now = System.currentTimeMillis();
+        synchronized (feed) {
+            if (feed.generation.get() != generation) {
+                return;
+            }
+            feed.entries.put(key, new Entry(page, now, depth));
+            if (page.nextCursor() != null && depth + 1 < pages) {
+                feed.cursorDepths.put(scope + "|" + page.nextCursor(), depth + 1);
+            }
+
+            if (feed.entries.size() > maxEntries) {
+                feed.entries.values().removeIf(entry -> now - entry.createdAt() >= ttlMillis);
+            }
+            evictEldest(feed.entries);
+            evictEldest(feed.cursorDepths);
+        }
+    }
+
+    private void evictEldest(LinkedHashMap<String, ?> map) {
+        Iterator<String> eldest = map.keySet().iterator();
+        while (map.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 응답 본문 직렬화 (캐시 항목으로 저장하기 전 한 번만)
+     */
+    public Page serialize(Object body, String nextCursor) {
+        try {
+            return new Page(objectMapper.writeValueAsBytes(body), nextCursor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("목록 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 변경 커밋 후 해당 목록 캐시 비움
+     * 트랜잭션 밖에서 발행된 이벤트도 바로 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(FeedChangedEvent event) {
+        Feed feed = feeds.get(event.target());
+        synchronized (feed) {
+            feed.generation.incrementAndGet();
+            feed.entries.clear();
+            feed.cursorDepths.clear();
+        }
+        log.debug("공개 목록 캐시 비움: {}", event.target());
+    }
+
+    private Page await(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.service.feed;
+
+import com.example.backend.domain.ViewTarget;
+
+/**
+ * 공개 목록 (/photo/all, /exhibition/all) 내용이 바뀌었음을 알리는 이벤트
+ * 트랜잭션 안에서 발행하면 커밋 후에 캐시를 비움
+ */
+public record FeedChangedEvent(ViewTarget target) {
+}
@@ -0,0 +1,56 @@
+package com.example.backend.service.image;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 디코딩된 래스터와 원본 크기
+ * 래스터에는 EXIF 회전이 아직 적용되지 않았으므로 리사이즈 후 oriented 로 적용
+ * close 하면 디코딩 메모리 예산을 반납하므로 래스터 사용이 끝난 뒤 닫아야 함
+ */
+public final class DecodedImage implements AutoCloseable {
+
+    private final BufferedImage image;
+    private final int sourceWidth;
+    private final int sourceHeight;
+    private final int orientation;
+    private final Runnable release;
+    private boolean closed;
+
+    DecodedImage(BufferedImage image, int sourceWidth, int sourceHeight, int orientation, Runnable release) {
+        this.image = image;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+        this.orientation = orientation;
+        this.release = release;
+    }
+
+    public BufferedImage image() {
+        return image;
+    }
+
+    public int sourceWidth() {
+        return sourceWidth;
+    }
+
+    public int sourceHeight() {
+        return sourceHeight;
+    }
+
+    public int orientation() {
+        return orientation;
+    }
+
+    /**
+     * 이 이미지의 EXIF 회전을 적용 (리사이즈한 래스터에 사용)
+     */
+    public BufferedImage oriented(BufferedImage resized) {
+        return ExifOrientation.apply(resized, orientation);
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        release.run();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.backend.service.image;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * JPEG EXIF (APP1) 에서 읽은 촬영 정보
+ * 헤더 검사 / 디코딩 시 ImageIO 가 이미 읽어둔 메타데이터에서 꺼내므로 추가로 읽는 바이트가 없음
+ * GPS IFD 는 읽지 않고, 파생 이미지는 메타데이터 없이 다시 인코딩되므로 위치 정보가 공개되지 않음
+ *
+ * @param orientation 1 ~ 8 (없으면 1)
+ * @param takenAt     DateTimeOriginal (카메라 현지 시각)
+ */
+public record ExifMetadata(
+        int orientation,
+        LocalDateTime takenAt,
+        String cameraMake,
+        String cameraModel,
+        String lensModel,
+        Integer iso
+) {
+
+    public static final ExifMetadata NONE = new ExifMetadata(1, null, null, null, null, null);
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int TIFF_OFFSET = 6;
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    // IFD0
+    private static final int TAG_MAKE = 0x010F;
+    private static final int TAG_MODEL = 0x0110;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    // Exif IFD
+    private static final int TAG_ISO = 0x8827;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_LENS_MODEL = 0xA434;
+
+    private static final int TYPE_ASCII = 2;
+    private static final int TYPE_SHORT = 3;
+    private static final int TYPE_LONG = 4;
+
+    // 컬럼 길이에 맞춰 자름
+    private static final int MAX_TEXT_LENGTH = 64;
+
+    /**
+     * JPEG 메타데이터의 APP1 "Exif" 세그먼트 파싱, 없거나 깨졌으면 NONE
+     */
+    static ExifMetadata read(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return NONE;
+        }
+
+        Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) continue;
+
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (!"unknown".equals(marker.getNodeName())) continue;
+
+                Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+                if (tag == null || Integer.parseInt(tag.getNodeValue()) != APP1_MARKER) continue;
+
+                if (((IIOMetadataNode) marker).getUserObject() instanceof byte[] data && isExif(data)) {
+                    try {
+                        return parse(data);
+                    } catch (IndexOutOfBoundsException e) {
+                        // 잘린 EXIF 는 무시
+                        return NONE;
+                    }
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * "Exif\0\0" + TIFF 헤더 + IFD0 (+ Exif IFD)
+     */
+    private static ExifMetadata parse(byte[] data) {
+        boolean littleEndian = data[TIFF_OFFSET] == 'I' && data[TIFF_OFFSET + 1] == 'I';
+        Ifd ifd = new Ifd(data, littleEndian);
+
+        int orientation = 1;
+        String make = null;
+        String model = null;
+        long exifIfd = -1;
+
+        int ifd0 = TIFF_OFFSET + (int) ifd.readInt(TIFF_OFFSET + 4);
+        int entries = ifd.readShort(ifd0);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd0 + 2 + i * 12;
+            switch (ifd.readShort(entry)) {
+                case TAG_ORIENTATION -> {
+                    int value = ifd.readShort(entry + 8);
+                    orientation = value >= 1 && value <= 8 ? value : 1;
+                }
+                case TAG_MAKE -> make = ifd.readAscii(entry);
+                case TAG_MODEL -> model = ifd.readAscii(entry);
+                case TAG_EXIF_IFD -> exifIfd = ifd.readInt(entry + 8);
+                default -> {
+                }
+            }
+        }
+
+        LocalDateTime takenAt = null;
+        String lens = null;
+        Integer iso = null;
+        if (exifIfd > 0 && TIFF_OFFSET + exifIfd + 2 <= data.length) {
+            int offset = TIFF_OFFSET + (int) exifIfd;
+            int exifEntries = ifd.readShort(offset);
+            for (int i = 0; i < exifEntries; i++) {
+                int entry = offset + 2 + i * 12;
+                switch (ifd.readShort(entry)) {
+                    case TAG_DATE_TIME_ORIGINAL -> takenAt = parseDateTime(ifd.readAscii(entry));
+                    case TAG_LENS_MODEL -> lens = ifd.readAscii(entry);
+                    case TAG_ISO -> {
+                        int type = ifd.readShort(entry + 2);
+                        long value = type == TYPE_LONG ? ifd.readInt(entry + 8) : ifd.readShort(entry + 8);
+                        iso = value > 0 ? (int) value : null;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        return new ExifMetadata(orientation, takenAt, make, model, lens, iso);
+    }
+
+    private static boolean isExif(byte[] data) {
+        return data.length >= 14 && data[0] == 'E' && data[1] == 'x' && data[2] == 'i' && data[3] == 'f';
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.length() < 19) return null;
+        try {
+            return LocalDateTime.parse(value.substring(0, 19), EXIF_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            // "0000:00:00 00:00:00" 등 값이 없는 카메라
+            return null;
+        }
+    }
+
+    /**
+     * TIFF IFD 값 읽기 (오프셋은 TIFF 헤더 기준)
+     */
+    private record Ifd(byte[] data, boolean littleEndian) {
+
+        int readShort(int offset) {
+            int b0 = data[offset] & 0xFF;
+            int b1 = data[offset + 1] & 0xFF;
+            return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+        }
+
+        long readInt(int offset) {
+            long value = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = data[offset + (littleEndian ? 3 - i : i)] & 0xFF;
+                value = (value << 8) | b;
+            }
+            return value;
+        }
+
+        /**
+         * ASCII 값 (4바이트 이하는 엔트리 안에, 그 이상은 오프셋 위치에 저장됨)
+         */
+        String readAscii(int entry) {
+            if (readShort(entry + 2) != TYPE_ASCII) return null;
+
+            int count = (int) readInt(entry + 4);
+            int offset = count <= 4 ? entry + 8 : TIFF_OFFSET + (int) readInt(entry + 8);
+            if (count <= 0 || offset < 0 || offset + count > data.length) return null;
+
+            String value = new String(data, offset, count, StandardCharsets.US_ASCII).trim();
+            int nul = value.indexOf('\0');
+            if (nul >= 0) value = value.substring(0, nul).trim();
+            if (value.isEmpty()) return null;
+            return value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG EXIF Orientation 적용 (값은 ExifMetadata 에서 읽음)
+ * ImageIO 는 Thumbnailator 와 달리 회전 정보를 반영하지 않으므로 직접 적용
+ * 원본 해상도 래스터를 한 벌 더 만들지 않도록 첫 리사이즈 결과에 적용
+ */
+final class ExifOrientation {
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 회전 / 반전 적용 (5 ~ 8 은 가로 세로가 바뀜)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) return image;
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // transpose
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // transverse
+            default -> new AffineTransform(0, -1, 1, 0, 0, w); // 반시계 방향 90도
+        };
+
+        boolean swap = orientation >= 5;
+        int type = image.getType() == BufferedImage.TYPE_CUSTOM
+                ? (image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB)
+                : image.getType();
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, type);
+
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+}
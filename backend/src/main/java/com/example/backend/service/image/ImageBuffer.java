@@ -0,0 +1,193 @@
+package com.example.backend.service.image;
+
+import com.example.backend.service.storage.StorageContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 인코더 출력 버퍼
+ * 풀에서 빌린 ByteBuffer 에 쓰다가 용량을 넘으면 임시 파일로 넘겨서(spill) 계속 씀
+ * 읽을 때는 복사 없이 같은 메모리 / 파일을 InputStream 으로 다시 읽음
+ * 사용 후 반드시 close() 로 버퍼 반납 및 임시 파일 삭제
+ */
+public class ImageBuffer extends OutputStream implements StorageContent {
+
+    private final ImageBufferPool pool;
+
+    private ByteBuffer memory;
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private long size;
+    private long memoryBytes;
+    private boolean closed;
+
+    ImageBuffer(ImageBufferPool pool) {
+        this.pool = pool;
+        this.memory = pool.acquire();
+        this.memoryBytes = memory.capacity();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        if (spillChannel == null && memory.remaining() < length) {
+            spill();
+        }
+
+        if (spillChannel == null) {
+            memory.put(bytes, offset, length);
+        } else {
+            ByteBuffer source = ByteBuffer.wrap(bytes, offset, length);
+            while (source.hasRemaining()) {
+                spillChannel.write(source);
+            }
+        }
+        size += length;
+    }
+
+    /**
+     * 메모리 버퍼 내용을 임시 파일로 옮기고 버퍼는 즉시 풀에 반납
+     */
+    private void spill() throws IOException {
+        spillFile = pool.createSpillFile();
+        spillChannel = FileChannel.open(spillFile, StandardOpenOption.WRITE);
+
+        memory.flip();
+        while (memory.hasRemaining()) {
+            spillChannel.write(memory);
+        }
+        pool.release(memory);
+        memory = null;
+    }
+
+    /**
+     * 전체 바이트 수
+     */
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 이 버퍼가 점유한 최대 메모리 바이트 수
+     * 쓴 바이트 수가 아니라 풀에서 빌린 청크 전체 용량 (spill 전까지 청크 하나를 통째로 붙잡고 있음)
+     */
+    public long memoryBytes() {
+        return memoryBytes;
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * 쓰기 완료 후 내용을 처음부터 읽는 새 스트림
+     * 메모리 버퍼는 복사 없이 읽기 전용 view 로, spill 된 경우 파일에서 읽음
+     * 저장소 SDK 재시도 시 여러번 호출될 수 있음
+     */
+    @Override
+    public InputStream newInputStream() {
+        try {
+            ensureOpen();
+            if (spillChannel != null) {
+                spillChannel.force(false);
+                return Files.newInputStream(spillFile);
+            }
+            ByteBuffer view = memory.asReadOnlyBuffer();
+            view.flip();
+            return new ByteBufferInputStream(view);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 멀티파트 파트는 slice 로 복사 없이 전달 (임의 위치 읽기라 순서 제약 없음)
+     */
+    @Override
+    public PartReader openParts() {
+        return this::slice;
+    }
+
+    /**
+     * offset 부터 length 바이트 구간을 복사 없이 반환 (멀티파트 파트 전송용)
+     * 메모리 버퍼는 읽기 전용 slice, spill 된 경우 파일을 읽기 전용으로 mmap
+     */
+    public ByteBuffer slice(long offset, int length) throws IOException {
+        ensureOpen();
+        if (spillChannel != null) {
+            spillChannel.force(false);
+            try (FileChannel readChannel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+                return readChannel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+        }
+        ByteBuffer view = memory.asReadOnlyBuffer();
+        view.limit((int) offset + length);
+        view.position((int) offset);
+        return view.slice();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("이미 반납된 이미지 버퍼입니다");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        if (memory != null) {
+            pool.release(memory);
+            memory = null;
+        }
+        if (spillChannel != null) {
+            spillChannel.close();
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    /**
+     * ByteBuffer 를 복사 없이 읽는 InputStream
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
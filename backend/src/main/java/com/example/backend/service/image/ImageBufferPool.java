@@ -0,0 +1,63 @@
+package com.example.backend.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 압축 결과를 담는 재사용 버퍼 풀
+ * 업로드마다 새 byte[] 를 할당하지 않고 고정 크기 ByteBuffer 를 돌려 씀
+ * image.buffer.direct=true 이면 힙 밖(direct) 메모리 사용
+ */
+@Slf4j
+@Component
+public class ImageBufferPool {
+
+    private final BlockingQueue<ByteBuffer> pool;
+    private final int chunkSize;
+    private final boolean direct;
+    private final Path spillDirectory;
+
+    public ImageBufferPool(@Value("${image.buffer.chunk-size:2097152}") int chunkSize,
+                           @Value("${image.buffer.pool-size:32}") int poolSize,
+                           @Value("${image.buffer.direct:false}") boolean direct,
+                           @Value("${image.buffer.spill-dir:${java.io.tmpdir}}") String spillDirectory) {
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        this.chunkSize = chunkSize;
+        this.direct = direct;
+        this.spillDirectory = Path.of(spillDirectory);
+    }
+
+    /**
+     * 새 ImageBuffer 생성
+     * 버퍼 크기를 넘으면 spill-dir 의 임시 파일로 넘겨서 씀
+     */
+    public ImageBuffer newBuffer() {
+        return new ImageBuffer(this);
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        // 풀이 비어 있으면 새로 할당 (반납 시 풀이 가득 차 있으면 버려짐)
+        return direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        pool.offer(buffer);
+    }
+
+    Path createSpillFile() throws IOException {
+        return Files.createTempFile(spillDirectory, "image-", ".tmp");
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본 이미지 디코더
+ * 헤더에서 크기만 먼저 읽고, ImageReadParam 소스 서브샘플링으로 필요한 해상도까지만 디코딩
+ * 래스터 크기는 픽셀 예산을 넘지 않고, 모든 업로드의 동시 디코딩 메모리는 세마포어로 제한
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    // 디코딩 래스터 픽셀당 바이트 (ARGB 기준으로 보수적으로 계산)
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maxPixels;
+    private final int oversample;
+    private final long acquireTimeoutMillis;
+    private final Semaphore decodeMemory;
+    private final int totalPermits;
+
+    public ImageDecoder(@Value("${image.decode.max-pixels:16777216}") long maxPixels,
+                        @Value("${image.decode.oversample:2}") int oversample,
+                        @Value("${image.decode.max-concurrent-bytes:268435456}") long maxConcurrentBytes,
+                        @Value("${image.decode.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        this.maxPixels = maxPixels;
+        this.oversample = Math.max(oversample, 1);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        // 세마포어 단위는 KB (int 범위)
+        this.totalPermits = (int) Math.min(maxConcurrentBytes / 1024, Integer.MAX_VALUE);
+        this.decodeMemory = new Semaphore(totalPermits, true);
+    }
+
+    /**
+     * 긴 변이 targetSize * oversample 이상 남는 범위에서 최대한 서브샘플링해서 디코딩
+     * 디코딩 메모리 예산을 얻지 못하면 RejectedExecutionException (업로드 요청은 503, 작업은 재시도)
+     */
+    public DecodedImage decode(InputStream inputStream, int targetSize) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(inputStream)) {
+            if (stream == null) {
+                throw new IOException("이미지 스트림을 열 수 없습니다");
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, false);
+
+                // 1. 헤더에서 크기 / 회전 정보만 읽음 (래스터 디코딩 전)
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int orientation = ExifMetadata.read(reader.getImageMetadata(0)).orientation();
+
+                // 2. 서브샘플링 비율과 디코딩 크기 계산
+                int subsampling = subsamplingFor(width, height, targetSize);
+                long decodedWidth = (width + subsampling - 1) / subsampling;
+                long decodedHeight = (height + subsampling - 1) / subsampling;
+
+                // 회전은 리사이즈 후 작은 래스터에 적용하므로 디코딩 래스터만 계산
+                long bytes = decodedWidth * decodedHeight * BYTES_PER_PIXEL;
+                int permits = acquire(bytes);
+
+                try {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                    BufferedImage image = reader.read(0, param);
+                    if (subsampling > 1) {
+                        log.info("image decode {}x{} -> {}x{} (subsampling {})",
+                                width, height, decodedWidth, decodedHeight, subsampling);
+                    }
+                    return new DecodedImage(image, width, height, orientation, () -> decodeMemory.release(permits));
+
+                } catch (IOException | RuntimeException e) {
+                    decodeMemory.release(permits);
+                    throw e;
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 서브샘플링 비율
+     * - 품질: 긴 변이 targetSize * oversample 아래로 내려가지 않는 최대 정수
+     * - 메모리: 픽셀 수가 maxPixels 이하가 되는 최소 정수
+     * 둘 중 큰 값을 사용 (메모리 예산이 우선)
+     */
+    private int subsamplingFor(int width, int height, int targetSize) {
+        int longest = Math.max(width, height);
+        int forQuality = Math.max(1, longest / (targetSize * oversample));
+
+        int forBudget = 1;
+        while (((long) width / forBudget) * ((long) height / forBudget) > maxPixels) {
+            forBudget++;
+        }
+        return Math.max(forQuality, forBudget);
+    }
+
+    private int acquire(long bytes) {
+        int permits = (int) Math.min(Math.max(bytes / 1024, 1), totalPermits);
+        try {
+            if (!decodeMemory.tryAcquire(permits, acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("이미지 디코딩 메모리 부족");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("이미지 디코딩 대기 중단", e);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.ImageVariantType;
+
+import java.io.IOException;
+
+/**
+ * 한 번의 디코딩으로 만들어진 해상도별 압축 결과
+ * buffer 는 업로드 후 close() 로 반납해야 함
+ * encodingProfile / quality 는 인코딩에 사용한 프로파일과 최종 품질
+ */
+public record ImageDerivative(
+        ImageVariantType variantType,
+        int width,
+        int height,
+        ImageBuffer buffer,
+        String encodingProfile,
+        float quality
+) implements AutoCloseable {
+
+    @Override
+    public void close() throws IOException {
+        buffer.close();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.service.image;
+
+/**
+ * 헤더만 읽은 이미지 정보
+ * width / height 는 EXIF 회전을 반영한 표시 크기
+ * exif 는 JPEG 가 아니거나 EXIF 가 없으면 ExifMetadata.NONE
+ */
+public record ImageHeader(
+        String format,
+        int width,
+        int height,
+        ExifMetadata exif
+) {
+    public String contentType() {
+        return "image/" + format;
+    }
+
+    public String extension() {
+        return "jpeg".equals(format) ? "jpg" : format;
+    }
+}
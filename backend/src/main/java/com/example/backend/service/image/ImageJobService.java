@@ -0,0 +1,259 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.ImageJob;
+import com.example.backend.domain.ImageJobStatus;
+import com.example.backend.domain.Photo;
+import com.example.backend.domain.StoredImage;
+import com.example.backend.domain.ViewTarget;
+import com.example.backend.repository.ImageJobRepository;
+import com.example.backend.repository.PhotoRepository;
+import com.example.backend.repository.StoredImageRepository;
+import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.StoredOriginal;
+import com.example.backend.service.aws.UploadedImage;
+import com.example.backend.service.feed.FeedChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 기반 파생 이미지 작업 큐
+ * 모든 노드가 image_jobs 를 폴링하고, 조건부 UPDATE 로 lease 를 잡은 노드만 작업을 처리
+ * 처리 중 노드가 죽으면 lease 가 만료된 뒤 다른 노드가 다시 가져감
+ * 실패하면 지수 백오프로 재시도하고, 최대 횟수를 넘으면 DEAD 로 남김
+ */
+@Slf4j
+@Service
+public class ImageJobService {
+
+    private final ImageJobRepository imageJobRepository;
+    private final PhotoRepository photoRepository;
+    private final StoredImageRepository storedImageRepository;
+    private final StoredImageService storedImageService;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final S3Service s3Service;
+    private final TaskExecutor imageJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // lease 소유자 식별값 (호스트명 + 인스턴스별 랜덤값)
+    private final String workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // 이 노드에서 처리 중인 작업 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${image.job.workers:2}")
+    private int workers;
+
+    @Value("${image.job.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${image.job.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${image.job.retry-backoff-seconds:10}")
+    private long retryBackoffSeconds;
+
+    public ImageJobService(ImageJobRepository imageJobRepository,
+                           PhotoRepository photoRepository,
+                           StoredImageRepository storedImageRepository,
+                           StoredImageService storedImageService,
+                           PerceptualHashIndex perceptualHashIndex,
+                           S3Service s3Service,
+                           @Qualifier("imageJobExecutor") TaskExecutor imageJobExecutor,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher) {
+        this.imageJobRepository = imageJobRepository;
+        this.photoRepository = photoRepository;
+        this.storedImageRepository = storedImageRepository;
+        this.storedImageService = storedImageService;
+        this.perceptualHashIndex = perceptualHashIndex;
+        this.s3Service = s3Service;
+        this.imageJobExecutor = imageJobExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 작업 등록
+     * 호출한 트랜잭션과 함께 커밋되므로 사진 행과 작업 행이 항상 같이 생성됨
+     */
+    public void enqueue(Long photoId) {
+        imageJobRepository.save(ImageJob.builder()
+                .photoId(photoId)
+                .status(ImageJobStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 비어 있는 워커 수만큼 작업을 가져와 실행
+     */
+    @Scheduled(fixedDelayString = "${image.job.poll-interval-ms:1000}")
+    public void poll() {
+        int capacity = workers - inFlight.get();
+        if (capacity <= 0) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = imageJobRepository.findClaimableIds(now, PageRequest.of(0, capacity));
+
+        for (Long jobId : candidates) {
+            if (imageJobRepository.claim(jobId, workerId, now, now.plusSeconds(leaseSeconds)) == 0) {
+                continue; // 다른 노드가 먼저 가져감
+            }
+
+            inFlight.incrementAndGet();
+            try {
+                imageJobExecutor.execute(() -> run(jobId));
+            } catch (RejectedExecutionException e) {
+                // lease 가 만료되면 다시 가져가므로 여기서는 기록만 함
+                inFlight.decrementAndGet();
+                log.warn("이미지 작업 제출 거절됨: jobId={}", jobId);
+                return;
+            }
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            ImageJob job = imageJobRepository.findById(jobId).orElse(null);
+            if (job == null) return;
+
+            Photo photo = photoRepository.findById(job.getPhotoId()).orElse(null);
+            if (photo == null || photo.getOriginalKey() == null) {
+                // 처리 전에 삭제된 사진
+                complete(jobId, null, null);
+                return;
+            }
+
+            String contentHash = photo.getContentHash() != null ? photo.getContentHash() : adoptOriginal(photo);
+            if (contentHash == null) {
+                complete(jobId, null, null);
+                return;
+            }
+
+            StoredImage stored = storedImageRepository.findById(contentHash)
+                    .orElseThrow(() -> new IllegalStateException("Stored image not found: " + contentHash));
+
+            // 같은 내용을 다른 작업이 이미 처리했다면 재압축 / 재업로드 생략
+            UploadedImage image = stored.isProcessed() ? null
+                    : s3Service.uploadDerivativesFromOriginal(stored.getOriginalKey());
+            complete(jobId, contentHash, image);
+
+        } catch (RuntimeException e) {
+            fail(jobId, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 직접 업로드 원본을 내용 주소 원본으로 옮기고 사진에 연결
+     * 사진 연결이 커밋된 뒤에만 업로드된 키를 지우므로 도중에 실패해도 재시도 가능
+     */
+    private String adoptOriginal(Photo photo) {
+        String uploadedKey = photo.getOriginalKey();
+        StoredOriginal original = s3Service.adoptOriginal(uploadedKey, storedImageService::isStored);
+
+        Boolean attached = transactionTemplate.execute(status -> {
+            if (!photoRepository.existsById(photo.getPhotoId())) return false;
+
+            // acquire 가 영속성 컨텍스트를 비우므로 사진은 그 뒤에 다시 읽어야 변경이 반영됨
+            StoredImage stored = storedImageService.acquire(original);
+            Photo current = photoRepository.findById(photo.getPhotoId())
+                    .orElseThrow(() -> new IllegalStateException("Photo not found: " + photo.getPhotoId()));
+            current.attachContent(stored.getContentHash(), stored.getOriginalKey());
+            return true;
+        });
+
+        // 여기까지 왔으면 사진이 내용 주소 원본을 가리키거나 (커밋됨) 사진이 이미 삭제된 상태
+        s3Service.deleteObject(uploadedKey);
+        return Boolean.TRUE.equals(attached) ? original.contentHash() : null;
+    }
+
+    /**
+     * 작업 완료와 사진 상태 변경을 한 트랜잭션으로 반영
+     * 새로 생성한 파생 이미지는 내용 주소 이미지에 기록하고 사진에 복사
+     * lease 를 잃은 경우 (만료 후 다른 노드가 가져감) 결과를 버림
+     */
+    private void complete(Long jobId, String contentHash, UploadedImage image) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ImageJob job = imageJobRepository.findById(jobId).orElse(null);
+            if (job == null || !job.isLeasedBy(workerId)) {
+                log.warn("이미지 작업 lease 만료, 결과 폐기: jobId={}", jobId);
+                return;
+            }
+
+            StoredImage stored = contentHash == null ? null : storedImageRepository.findById(contentHash).orElse(null);
+            if (stored != null) {
+                if (image != null && !stored.isProcessed()) {
+                    stored.completeProcessing(image.imageUrl(), image.variants(),
+                            image.perceptualHash(), image.blurHash(), image.lqip());
+                }
+                photoRepository.findById(job.getPhotoId()).ifPresent(photo -> {
+                    photo.completeProcessing(stored);
+                    perceptualHashIndex.register(photo);
+                    publishFeedChanged(photo);
+                });
+            }
+            job.complete();
+        });
+        log.info("이미지 작업 완료: jobId={}", jobId);
+    }
+
+    private void fail(Long jobId, RuntimeException failure) {
+        String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ImageJob job = imageJobRepository.findById(jobId).orElse(null);
+            if (job == null || !job.isLeasedBy(workerId)) return;
+
+            if (job.getAttempts() >= maxAttempts) {
+                job.deadLetter(error);
+                photoRepository.findById(job.getPhotoId()).ifPresent(photo -> {
+                    photo.failProcessing();
+                    publishFeedChanged(photo);
+                });
+                log.error("이미지 작업 최종 실패 ({}회 시도): jobId={} {}", job.getAttempts(), jobId, error);
+                return;
+            }
+
+            long delay = retryBackoffSeconds << Math.min(job.getAttempts() - 1, 10);
+            job.retryAt(LocalDateTime.now().plusSeconds(delay), error);
+            log.warn("이미지 작업 재시도 예약 ({}초 후): jobId={} {}", delay, jobId, error);
+        });
+    }
+
+    /**
+     * 사진 상태 / 이미지 주소가 바뀌었으므로 커밋 후 공개 목록 캐시 비움
+     */
+    private void publishFeedChanged(Photo photo) {
+        eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.PHOTO));
+        if (photo.getExhibition() != null) {
+            eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.EXHIBITION));
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지 헤더 검사
+ * 매직 바이트로 실제 형식을 확인하고, ImageIO 리더로 헤더의 크기 / EXIF 만 읽음 (픽셀 디코딩 없음)
+ * 확장자만 바꾼 파일이나 디코딩 폭탄은 여기서 바로 거절
+ */
+@Component
+public class ImageProbe {
+
+    private static final int MAGIC_LENGTH = 8;
+
+    // 허용 최대 픽셀 수 / 한 변 길이 (선언된 헤더 기준)
+    @Value("${image.probe.max-pixels:80000000}")
+    private long maxPixels;
+
+    @Value("${image.probe.max-dimension:20000}")
+    private int maxDimension;
+
+    public ImageHeader probe(InputStream inputStream) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(inputStream, MAGIC_LENGTH);
+        byte[] magic = pushback.readNBytes(MAGIC_LENGTH);
+        pushback.unread(magic);
+
+        // 1. 매직 바이트로 형식 판별
+        String format = detectFormat(magic);
+
+        // 2. 헤더만 읽음 (읽은 만큼만 메모리에 캐시)
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(pushback)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 3. 디코딩 폭탄 거절
+                if (width <= 0 || height <= 0
+                        || width > maxDimension || height > maxDimension
+                        || (long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+
+                // 4. EXIF (헤더 검사 중 이미 읽은 APP1 세그먼트에서 꺼냄)
+                ExifMetadata exif = "jpeg".equals(format) ? ExifMetadata.read(reader.getImageMetadata(0)) : ExifMetadata.NONE;
+                boolean swap = exif.orientation() >= 5;
+                return new ImageHeader(format, swap ? height : width, swap ? width : height, exif);
+
+            } finally {
+                reader.dispose();
+            }
+        } catch (IIOException e) {
+            throw new IllegalArgumentException("이미지 헤더를 읽을 수 없습니다", e);
+        }
+    }
+
+    private String detectFormat(byte[] magic) {
+        if (magic.length >= 3
+                && (magic[0] & 0xFF) == 0xFF && (magic[1] & 0xFF) == 0xD8 && (magic[2] & 0xFF) == 0xFF) {
+            return "jpeg";
+        }
+        if (magic.length >= 8
+                && (magic[0] & 0xFF) == 0x89 && magic[1] == 'P' && magic[2] == 'N' && magic[3] == 'G'
+                && magic[4] == 0x0D && magic[5] == 0x0A && magic[6] == 0x1A && magic[7] == 0x0A) {
+            return "png";
+        }
+        if (magic.length >= 6
+                && magic[0] == 'G' && magic[1] == 'I' && magic[2] == 'F' && magic[3] == '8'
+                && (magic[4] == '7' || magic[4] == '9') && magic[5] == 'a') {
+            return "gif";
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다");
+    }
+}
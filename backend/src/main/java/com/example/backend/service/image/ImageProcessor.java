@@ -0,0 +1,145 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.ImageVariantType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageProcessor {
+
+    private static final int BLUR_HASH_SIZE = 32;
+    private static final double LQIP_QUALITY = 0.5;
+
+    private final ImageBufferPool imageBufferPool;
+    private final ImageDecoder imageDecoder;
+    private final JpegEncoder jpegEncoder;
+
+    // 파생 이미지 최대 변 길이 (px)
+    @Value("${image.derivative.thumb-size:320}")
+    private int thumbSize;
+
+    @Value("${image.derivative.medium-size:800}")
+    private int mediumSize;
+
+    @Value("${image.derivative.full-size:1920}")
+    private int fullSize;
+
+    // LQIP 긴 변 길이 (px)
+    @Value("${image.placeholder.lqip-size:16}")
+    private int lqipSize;
+
+    /**
+     * 해상도별 파생 이미지 생성
+     * 원본은 full 크기에 필요한 해상도까지만 서브샘플링해서 한 번 디코딩하고, 큰 크기부터 직전 결과를 다시 줄여가며 생성
+     * 원본보다 큰 크기로 확대하지 않음
+     * 압축 결과는 byte[] 가 아닌 풀링된 ImageBuffer 에 기록
+     * 가장 작은 결과로 중복 탐지용 dHash 와 BlurHash / LQIP 자리 표시도 함께 계산 (추가 디코딩 없음)
+     */
+    public ProcessedImage createDerivatives(InputStream inputStream) throws IOException {
+        // 1. 원본 디코딩 (서브샘플링, EXIF 회전은 첫 리사이즈 후 적용), 인코딩이 끝나면 디코딩 메모리 반납
+        try (DecodedImage decoded = imageDecoder.decode(inputStream, fullSize)) {
+            BufferedImage source = decoded.image();
+
+            // 2. 큰 크기 순서로 정렬
+            List<ImageVariantType> largestFirst = Arrays.stream(ImageVariantType.values())
+                    .sorted(Comparator.comparingInt(this::sizeOf).reversed())
+                    .toList();
+
+            // 3. 직전 결과를 다시 줄여서 생성 (원본 재디코딩 없음)
+            List<ImageDerivative> derivatives = new ArrayList<>(largestFirst.size());
+            try {
+                BufferedImage current = source;
+                for (ImageVariantType variantType : largestFirst) {
+                    current = resize(current, sizeOf(variantType));
+                    if (derivatives.isEmpty()) {
+                        // EXIF 회전은 가장 큰 결과에 한 번만 적용 (이후 크기는 이 결과를 줄여서 생성)
+                        current = decoded.oriented(current);
+                    }
+                    derivatives.add(encode(current, variantType));
+                }
+                return new ProcessedImage(
+                        derivatives,
+                        PerceptualHash.dHash(current),
+                        blurHash(current),
+                        lqip(current)
+                );
+            } catch (IOException | RuntimeException e) {
+                // 실패시 이미 만든 버퍼 반납
+                for (ImageDerivative derivative : derivatives) {
+                    derivative.close();
+                }
+                throw e;
+            }
+        }
+    }
+
+    public int sizeOf(ImageVariantType variantType) {
+        return switch (variantType) {
+            case THUMB -> thumbSize;
+            case MEDIUM -> mediumSize;
+            case FULL -> fullSize;
+        };
+    }
+
+    /**
+     * 가로 / 세로 비율에 맞춰 성분 수 선택 (4x3 또는 3x4)
+     * 큰 래스터는 32px 로 줄인 뒤 계산 (결과 차이 없이 계산량만 줄임)
+     */
+    private String blurHash(BufferedImage image) throws IOException {
+        boolean landscape = image.getWidth() >= image.getHeight();
+        return BlurHash.encode(resize(image, BLUR_HASH_SIZE), landscape ? 4 : 3, landscape ? 3 : 4);
+    }
+
+    /**
+     * 긴 변 lqipSize px 의 저화질 JPEG (data URI)
+     * 응답 JSON 에 그대로 넣어서 이미지 요청 없이 흐릿한 미리보기 표시
+     */
+    private String lqip(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Thumbnails.of(image)
+                .size(lqipSize, lqipSize)
+                .outputFormat("jpg")
+                .outputQuality(LQIP_QUALITY)
+                .toOutputStream(outputStream);
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(outputStream.toByteArray());
+    }
+
+    private BufferedImage resize(BufferedImage image, int maxSize) throws IOException {
+        if (image.getWidth() <= maxSize && image.getHeight() <= maxSize) {
+            return image;
+        }
+        return Thumbnails.of(image)
+                .size(maxSize, maxSize)
+                .asBufferedImage();
+    }
+
+    /**
+     * 인코딩 프로파일 (progressive / 파생 이미지별 품질 / adaptive) 에 따라 압축
+     */
+    private ImageDerivative encode(BufferedImage image, ImageVariantType variantType) throws IOException {
+        ImageBuffer buffer = imageBufferPool.newBuffer();
+        try {
+            JpegEncoder.Encoding encoding = jpegEncoder.encode(image, variantType, buffer);
+            return new ImageDerivative(variantType, image.getWidth(), image.getHeight(), buffer,
+                    encoding.profile(), encoding.quality());
+        } catch (IOException | RuntimeException e) {
+            buffer.close();
+            throw e;
+        }
+    }
+}
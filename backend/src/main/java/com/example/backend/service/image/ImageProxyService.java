@@ -0,0 +1,242 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.ImageVariantType;
+import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoStatus;
+import com.example.backend.domain.PhotoVariant;
+import com.example.backend.repository.PhotoRepository;
+import com.example.backend.service.storage.ImageStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriUtils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 요청 크기로 줄인 이미지 제공 (/img/{photoId}?w=&q=)
+ * 저장된 가장 큰 파생 이미지 (full) 를 다시 줄여서 생성
+ * 너비 / 품질은 고정된 단계로 맞춰서 캐시 항목 수를 제한
+ * 같은 결과를 동시에 요청하면 렌더링은 한 번만 하고 결과를 공유
+ */
+@Slf4j
+@Service
+public class ImageProxyService {
+
+    private final PhotoRepository photoRepository;
+    private final ImageStorage imageStorage;
+    private final ImageDecoder imageDecoder;
+    private final ImageVariantCache variantCache;
+    private final TaskExecutor imageProcessingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter memoryOrDiskHits;
+    private final Counter renders;
+    private final Counter coalesced;
+
+    // 렌더링 중인 결과 (캐시 키 -> 결과)
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    // 허용 너비 / 품질 단계 (오름차순)
+    private final int[] widths;
+    private final int[] qualities;
+
+    public ImageProxyService(PhotoRepository photoRepository,
+                             ImageStorage imageStorage,
+                             ImageDecoder imageDecoder,
+                             ImageVariantCache variantCache,
+                             @Qualifier("imageProcessingExecutor") TaskExecutor imageProcessingExecutor,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${image.proxy.widths:160,320,480,640,960,1280,1600,1920}") int[] widths,
+                             @Value("${image.proxy.qualities:50,70,85}") int[] qualities) {
+        this.photoRepository = photoRepository;
+        this.imageStorage = imageStorage;
+        this.imageDecoder = imageDecoder;
+        this.variantCache = variantCache;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.widths = Arrays.stream(widths).sorted().toArray();
+        this.qualities = Arrays.stream(qualities).sorted().toArray();
+        this.memoryOrDiskHits = Counter.builder("image.proxy.requests").tag("result", "cache")
+                .description("리사이즈 프록시 요청 수")
+                .register(meterRegistry);
+        this.renders = Counter.builder("image.proxy.requests").tag("result", "render")
+                .description("리사이즈 프록시 요청 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("image.proxy.requests").tag("result", "coalesced")
+                .description("리사이즈 프록시 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리사이즈 결과
+     * etag 는 원본 파생 이미지 키 + 단계로 만들어서 내용이 같으면 항상 같음
+     */
+    public record ProxiedImage(byte[] data, String etag) {
+    }
+
+    /**
+     * 원본 파생 이미지 키와 너비
+     */
+    private record Source(String key, int width) {
+    }
+
+    /**
+     * 요청 너비는 그 이상인 가장 작은 단계로 올리고 원본 너비를 넘지 않음
+     * 품질은 가장 가까운 단계, 생략하면 가운데 단계
+     * 렌더링 대기열이 가득 차면 RejectedExecutionException (503)
+     */
+    public ProxiedImage getImage(Long photoId, int requestedWidth, Integer requestedQuality) {
+        Source source = transactionTemplate.execute(status -> findSource(photoId));
+
+        int width = Math.min(snapWidth(requestedWidth), source.width());
+        int quality = requestedQuality == null ? qualities[qualities.length / 2] : snapQuality(requestedQuality);
+
+        int lastDot = source.key().lastIndexOf('.');
+        String baseName = lastDot > 0 ? source.key().substring(0, lastDot) : source.key();
+        String cacheKey = baseName + "_w" + width + "_q" + quality + ".jpg";
+        // 키에 한글 등이 있을 수 있으므로 헤더에는 ASCII 로 바꿔서 사용
+        String etag = "\"" + UUID.nameUUIDFromBytes(cacheKey.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        byte[] cached = variantCache.get(cacheKey);
+        if (cached != null) {
+            memoryOrDiskHits.increment();
+            return new ProxiedImage(cached, etag);
+        }
+
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(cacheKey, created);
+        if (running != null) {
+            coalesced.increment();
+            return new ProxiedImage(await(running), etag);
+        }
+
+        // 앞선 렌더링이 캐시에 넣고 inFlight 에서 빠진 직후에 들어온 요청이면 다시 렌더링하지 않음
+        cached = variantCache.get(cacheKey);
+        if (cached != null) {
+            created.complete(cached);
+            inFlight.remove(cacheKey, created);
+            memoryOrDiskHits.increment();
+            return new ProxiedImage(cached, etag);
+        }
+
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> render(source.key(), width, quality), imageProcessingExecutor)
+                    .whenComplete((data, failure) -> {
+                        if (failure == null) {
+                            variantCache.put(cacheKey, data);
+                            created.complete(data);
+                        } else {
+                            created.completeExceptionally(failure);
+                        }
+                        inFlight.remove(cacheKey, created);
+                    });
+        } catch (RejectedExecutionException e) {
+            created.completeExceptionally(e);
+            inFlight.remove(cacheKey, created);
+            throw e;
+        }
+
+        renders.increment();
+        return new ProxiedImage(await(created), etag);
+    }
+
+    /**
+     * READY 사진의 full 파생 이미지 키
+     * 파생 이미지 키는 / 가 없으므로 url 마지막 경로가 곧 저장소 키
+     */
+    private Source findSource(Long photoId) {
+        Photo photo = photoRepository.findById(photoId)
+                .orElseThrow(() -> new RuntimeException("Photo not found"));
+        if (photo.getStatus() != PhotoStatus.READY) {
+            throw new IllegalArgumentException("아직 처리 중인 사진입니다");
+        }
+
+        String url = photo.getVariantUrl(ImageVariantType.FULL);
+        if (url == null) {
+            throw new IllegalArgumentException("이미지가 존재하지 않습니다");
+        }
+        String key = UriUtils.decode(url.substring(url.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+        if (key.isEmpty() || key.contains("/") || key.contains("..")) {
+            throw new IllegalArgumentException("이미지가 존재하지 않습니다");
+        }
+
+        PhotoVariant full = photo.getVariant(ImageVariantType.FULL);
+        int width = full != null && full.getWidth() != null ? full.getWidth()
+                : photo.getSourceWidth() != null ? photo.getSourceWidth()
+                : widths[widths.length - 1];
+        return new Source(key, width);
+    }
+
+    /**
+     * imageProcessingExecutor 에서 실행
+     * 디코딩 메모리 예산은 업로드 처리와 같은 세마포어를 사용
+     */
+    private byte[] render(String sourceKey, int width, int quality) {
+        try (InputStream inputStream = imageStorage.open(sourceKey);
+             DecodedImage decoded = imageDecoder.decode(inputStream, width)) {
+            BufferedImage image = decoded.image();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            Thumbnails.Builder<BufferedImage> builder = image.getWidth() > width
+                    ? Thumbnails.of(image).width(width)
+                    : Thumbnails.of(image).scale(1.0);
+            builder.outputFormat("jpg")
+                    .outputQuality(quality / 100.0)
+                    .toOutputStream(outputStream);
+
+            log.info("image proxy render {} -> w{} q{} ({} KB)", sourceKey, width, quality, outputStream.size() / 1024);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalArgumentException("이미지 리사이즈 중 오류 발생", e.getCause());
+        }
+    }
+
+    private int snapWidth(int requested) {
+        for (int width : widths) {
+            if (width >= requested) {
+                return width;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    private int snapQuality(int requested) {
+        int nearest = qualities[0];
+        for (int quality : qualities) {
+            if (Math.abs(quality - requested) < Math.abs(nearest - requested)) {
+                nearest = quality;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.backend.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 프록시 리사이즈 결과 2단 캐시
+ * 1단: 메모리 LRU (전체 바이트 수 제한)
+ * 2단: 디스크 LRU (전체 바이트 수 제한, 재시작 후에도 유지)
+ * 메모리에서 밀려난 항목도 디스크에는 남아 있으므로 다시 렌더링하지 않음
+ */
+@Slf4j
+@Component
+public class ImageVariantCache {
+
+    private final Path directory;
+    private final long memoryCapacityBytes;
+    private final long diskCapacityBytes;
+
+    // accessOrder = true -> 조회할 때마다 맨 뒤로 이동 (LRU)
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(1024, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    public ImageVariantCache(@Value("${image.proxy.cache-dir:${java.io.tmpdir}/photoexpo-img-cache}") String directory,
+                             @Value("${image.proxy.memory-cache-bytes:67108864}") long memoryCapacityBytes,
+                             @Value("${image.proxy.disk-cache-bytes:1073741824}") long diskCapacityBytes) throws IOException {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.memoryCapacityBytes = memoryCapacityBytes;
+        this.diskCapacityBytes = diskCapacityBytes;
+        Files.createDirectories(this.directory);
+        loadDiskIndex();
+    }
+
+    /**
+     * 메모리 -> 디스크 순서로 조회, 디스크에서 찾으면 메모리에 올림
+     */
+    public byte[] get(String key) {
+        synchronized (memory) {
+            byte[] cached = memory.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        synchronized (disk) {
+            if (disk.get(key) == null) {
+                return null;
+            }
+        }
+
+        try {
+            byte[] data = Files.readAllBytes(directory.resolve(key));
+            putMemory(key, data);
+            return data;
+        } catch (NoSuchFileException e) {
+            // 다른 스레드가 방금 밀어냄
+            return null;
+        } catch (IOException e) {
+            log.warn("이미지 캐시 읽기 실패: {} {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 양쪽 캐시에 저장
+     * 키는 파일 이름으로 그대로 쓰므로 / 나 .. 이 없어야 함
+     */
+    public void put(String key, byte[] data) {
+        putMemory(key, data);
+        try {
+            putDisk(key, data);
+        } catch (IOException e) {
+            log.warn("이미지 캐시 디스크 저장 실패: {} {}", key, e.getMessage());
+        }
+    }
+
+    private void putMemory(String key, byte[] data) {
+        // 한 항목이 메모리 캐시 대부분을 차지하지 않도록 제한
+        if (data.length > memoryCapacityBytes / 8) {
+            return;
+        }
+        synchronized (memory) {
+            byte[] previous = memory.put(key, data);
+            memoryBytes += data.length - (previous == null ? 0 : previous.length);
+
+            Iterator<byte[]> iterator = memory.values().iterator();
+            while (memoryBytes > memoryCapacityBytes && iterator.hasNext()) {
+                memoryBytes -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void putDisk(String key, byte[] data) throws IOException {
+        Path target = directory.resolve(key);
+        Path temp = Files.createTempFile(directory, ".cache-", ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (disk) {
+            Long previous = disk.put(key, (long) data.length);
+            diskBytes += data.length - (previous == null ? 0 : previous);
+
+            Iterator<Map.Entry<String, Long>> iterator = disk.entrySet().iterator();
+            while (diskBytes > diskCapacityBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                diskBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        // 파일 삭제는 락 밖에서
+        for (String evictedKey : evicted) {
+            Files.deleteIfExists(directory.resolve(evictedKey));
+        }
+    }
+
+    /**
+     * 재시작시 디스크 캐시 목록 복원 (수정 시각 오래된 순서 = LRU 순서)
+     * 남아 있는 임시 파일은 삭제
+     */
+    private void loadDiskIndex() throws IOException {
+        record CachedFile(String key, long size, long modified) {
+        }
+
+        List<CachedFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(".cache-")) {
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    files.add(new CachedFile(name, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                }
+            }
+        }
+
+        files.sort(Comparator.comparingLong(CachedFile::modified));
+        synchronized (disk) {
+            for (CachedFile file : files) {
+                disk.put(file.key(), file.size());
+                diskBytes += file.size();
+            }
+        }
+        log.info("이미지 캐시 디스크 항목 {}개 ({} KB) 복원", files.size(), diskBytes / 1024);
+    }
+}
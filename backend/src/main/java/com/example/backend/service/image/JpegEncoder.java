@@ -0,0 +1,202 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.ImageVariantType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 파생 이미지 JPEG 인코딩 프로파일
+ * - progressive: 저속 회선에서도 전체 윤곽이 먼저 보이도록 점진적 JPEG 로 저장 (허프만 테이블 최적화 포함)
+ * - 파생 이미지별 품질 (썸네일은 낮게, 상세 보기는 높게)
+ * - adaptive: 품질을 이분 탐색해서 원본 대비 SSIM 목표를 넘는 가장 낮은 품질 선택
+ *   단조로운 이미지는 낮은 품질로도 목표를 넘으므로 바이트를 아낌
+ */
+@Slf4j
+@Component
+public class JpegEncoder {
+
+    private final boolean progressive;
+    private final boolean adaptive;
+    private final float thumbQuality;
+    private final float mediumQuality;
+    private final float fullQuality;
+    private final double targetSsim;
+    private final float minQuality;
+    private final float maxQuality;
+    private final int searchSteps;
+    private final String profile;
+    private final MeterRegistry meterRegistry;
+
+    public JpegEncoder(@Value("${image.encoding.progressive:true}") boolean progressive,
+                       @Value("${image.encoding.adaptive:false}") boolean adaptive,
+                       @Value("${image.encoding.quality.thumb:${image.derivative.quality:0.8}}") float thumbQuality,
+                       @Value("${image.encoding.quality.medium:${image.derivative.quality:0.8}}") float mediumQuality,
+                       @Value("${image.encoding.quality.full:${image.derivative.quality:0.8}}") float fullQuality,
+                       @Value("${image.encoding.adaptive-target-ssim:0.985}") double targetSsim,
+                       @Value("${image.encoding.adaptive-min-quality:0.5}") float minQuality,
+                       @Value("${image.encoding.adaptive-max-quality:0.9}") float maxQuality,
+                       @Value("${image.encoding.adaptive-steps:5}") int searchSteps,
+                       MeterRegistry meterRegistry) {
+        this.progressive = progressive;
+        this.adaptive = adaptive;
+        this.thumbQuality = thumbQuality;
+        this.mediumQuality = mediumQuality;
+        this.fullQuality = fullQuality;
+        this.targetSsim = targetSsim;
+        this.minQuality = minQuality;
+        this.maxQuality = maxQuality;
+        this.searchSteps = searchSteps;
+        this.meterRegistry = meterRegistry;
+        // 파생 이미지 행에 함께 기록하는 프로파일 이름 (예: progressive-ssim0.985, baseline-fixed)
+        this.profile = (progressive ? "progressive" : "baseline") + (adaptive ? "-ssim" + targetSsim : "-fixed");
+    }
+
+    /**
+     * 인코딩 결과 (사용한 프로파일과 품질)
+     */
+    public record Encoding(String profile, float quality) {
+    }
+
+    public String profile() {
+        return profile;
+    }
+
+    /**
+     * 파생 이미지 하나를 인코딩해서 output 에 기록
+     */
+    public Encoding encode(BufferedImage image, ImageVariantType variantType, OutputStream output) throws IOException {
+        BufferedImage rgb = toRgb(image);
+        float quality = adaptive ? searchQuality(rgb, variantType) : qualityOf(variantType);
+
+        CountingOutputStream counting = new CountingOutputStream(output);
+        write(rgb, quality, counting);
+
+        DistributionSummary.builder("image.encode.bytes")
+                .description("파생 이미지 인코딩 결과 크기")
+                .baseUnit("bytes")
+                .tag("variant", variantType.name())
+                .tag("profile", profile)
+                .register(meterRegistry)
+                .record(counting.count);
+        return new Encoding(profile, quality);
+    }
+
+    /**
+     * [minQuality, 설정 품질 상한] 에서 SSIM 목표를 넘는 가장 낮은 품질
+     * 한 번도 목표를 넘지 못하면 상한 품질 사용
+     */
+    private float searchQuality(BufferedImage rgb, ImageVariantType variantType) throws IOException {
+        float[] reference = Ssim.luma(rgb);
+        float low = minQuality;
+        float high = Math.max(maxQuality, qualityOf(variantType));
+        float best = high;
+
+        ByteArrayOutputStream candidate = new ByteArrayOutputStream();
+        for (int step = 0; step < searchSteps; step++) {
+            float quality = (low + high) / 2;
+            candidate.reset();
+            write(rgb, quality, candidate);
+
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(candidate.toByteArray()));
+            double ssim = Ssim.compute(reference, Ssim.luma(decoded), rgb.getWidth(), rgb.getHeight());
+            if (ssim >= targetSsim) {
+                best = quality;
+                high = quality;
+            } else {
+                low = quality;
+            }
+        }
+
+        log.debug("adaptive quality {} {}x{} -> {}", variantType, rgb.getWidth(), rgb.getHeight(), best);
+        return best;
+    }
+
+    private float qualityOf(ImageVariantType variantType) {
+        return switch (variantType) {
+            case THUMB -> thumbQuality;
+            case MEDIUM -> mediumQuality;
+            case FULL -> fullQuality;
+        };
+    }
+
+    private void write(BufferedImage rgb, float quality, OutputStream output) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(stream);
+
+            JPEGImageWriteParam param = (JPEGImageWriteParam) writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            if (progressive) {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            } else {
+                param.setOptimizeHuffmanTables(true);
+            }
+
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG 는 알파 채널을 저장할 수 없으므로 RGB 로 변환 (투명 영역은 흰색)
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.Photo;
+import com.example.backend.repository.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 사진 dHash 메모리 인덱스 (BK-tree)
+ * 해밍 거리 k 이내 사진 조회시 삼각 부등식으로 [d-k, d+k] 가지만 탐색
+ * 다른 노드에서 처리된 사진도 반영되도록 주기적으로 DB 에서 다시 구성
+ * 추가 / 제거는 트랜잭션 안이면 커밋 후에 반영 (롤백된 변경이 인덱스에 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerceptualHashIndex {
+
+    private final PhotoRepository photoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private BkTree tree = new BkTree();
+
+    // 재구성 중 들어온 변경 (새 트리에 다시 반영), 재구성 중이 아니면 null
+    private List<Consumer<BkTree>> pendingChanges;
+
+    // 업로드시 중복 의심으로 표시할 해밍 거리
+    @Value("${image.phash.duplicate-distance:5}")
+    private int duplicateDistance;
+
+    @Value("${image.phash.max-search-distance:12}")
+    private int maxSearchDistance;
+
+    @Value("${image.phash.max-results:50}")
+    private int maxResults;
+
+    public record Match(Long photoId, Long userId, int distance) {
+    }
+
+    /**
+     * 처리 완료된 사진을 인덱스에 추가
+     * 다른 사용자의 거의 같은 사진이 이미 있으면 중복 의심으로 표시
+     */
+    public void register(Photo photo) {
+        if (photo.getPerceptualHash() == null) return;
+
+        long hash = photo.getPerceptualHash();
+        Long userId = photo.getUser().getUserId();
+
+        // 중복 표시는 엔티티 변경이라 같은 트랜잭션에서, 인덱스 추가는 커밋 후
+        findDuplicate(hash, photo.getPhotoId(), userId).ifPresent(photo::markDuplicateOf);
+        Long photoId = photo.getPhotoId();
+        afterCommit(() -> apply(index -> index.add(photoId, userId, hash)));
+    }
+
+    public void remove(Long photoId) {
+        afterCommit(() -> apply(index -> index.remove(photoId)));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+            return;
+        }
+        change.run();
+    }
+
+    /**
+     * 해밍 거리 maxDistance 이내 사진 (가까운 순)
+     */
+    public List<Match> search(long hash, int maxDistance) {
+        int distance = Math.min(Math.max(maxDistance, 0), maxSearchDistance);
+
+        lock.readLock().lock();
+        try {
+            return tree.search(hash, distance).stream()
+                    .sorted(Comparator.comparingInt(Match::distance))
+                    .limit(maxResults)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 기준으로 인덱스 재구성 (기동 직후 1회 후 주기적으로)
+     * 조회 / 구성은 잠금 밖에서 하고 교체할 때만 쓰기 잠금
+     */
+    @Scheduled(fixedDelayString = "${image.phash.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BkTree rebuilt = new BkTree();
+        try {
+            for (Object[] row : photoRepository.findAllPerceptualHashes()) {
+                rebuilt.add((Long) row[0], (Long) row[1], (Long) row[2]);
+            }
+        } catch (RuntimeException e) {
+            log.error("유사 이미지 인덱스 재구성 실패: {}", e.getMessage());
+            rebuilt = null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                for (Consumer<BkTree> change : pendingChanges) {
+                    change.accept(rebuilt);
+                }
+                tree = rebuilt;
+                log.info("유사 이미지 인덱스 재구성 완료: {} photos", rebuilt.size());
+            }
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<Long> findDuplicate(long hash, Long photoId, Long userId) {
+        return search(hash, duplicateDistance).stream()
+                .filter(match -> !match.photoId().equals(photoId))
+                .filter(match -> !match.userId().equals(userId))
+                .map(Match::photoId)
+                .findFirst();
+    }
+
+    private void apply(Consumer<BkTree> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(tree);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 해시의 사진은 한 노드에 모으고, 자식은 부모와의 해밍 거리(1~64) 로 구분
+     * 삭제는 노드에서 사진만 빼고 노드는 남겨둠 (다음 재구성 때 정리)
+     */
+    private static final class BkTree {
+
+        private Node root;
+        private final Map<Long, Node> nodeByPhoto = new HashMap<>();
+
+        void add(Long photoId, Long userId, long hash) {
+            remove(photoId);
+            Node node = insert(hash);
+            node.entries.add(new Match(photoId, userId, 0));
+            nodeByPhoto.put(photoId, node);
+        }
+
+        void remove(Long photoId) {
+            Node node = nodeByPhoto.remove(photoId);
+            if (node != null) {
+                node.entries.removeIf(entry -> entry.photoId().equals(photoId));
+            }
+        }
+
+        int size() {
+            return nodeByPhoto.size();
+        }
+
+        List<Match> search(long hash, int maxDistance) {
+            List<Match> matches = new ArrayList<>();
+            if (root == null) return matches;
+
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int distance = PerceptualHash.distance(node.hash, hash);
+                if (distance <= maxDistance) {
+                    for (Match entry : node.entries) {
+                        matches.add(new Match(entry.photoId(), entry.userId(), distance));
+                    }
+                }
+                if (node.children == null) continue;
+
+                int from = Math.max(1, distance - maxDistance);
+                int to = Math.min(64, distance + maxDistance);
+                for (int edge = from; edge <= to; edge++) {
+                    Node child = node.children[edge];
+                    if (child != null) stack.push(child);
+                }
+            }
+            return matches;
+        }
+
+        private Node insert(long hash) {
+            if (root == null) {
+                root = new Node(hash);
+                return root;
+            }
+
+            Node node = root;
+            while (true) {
+                int distance = PerceptualHash.distance(node.hash, hash);
+                if (distance == 0) return node;
+
+                // 리프가 대부분이므로 자식 배열은 첫 자식이 생길 때 할당
+                if (node.children == null) node.children = new Node[65];
+                Node child = node.children[distance];
+                if (child == null) {
+                    child = new Node(hash);
+                    node.children[distance] = child;
+                    return child;
+                }
+                node = child;
+            }
+        }
+    }
+
+    private static final class Node {
+        private final long hash;
+        private final List<Match> entries = new ArrayList<>(1);
+        private Node[] children;
+
+        private Node(long hash) {
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.service.image;
+
+import java.util.List;
+
+/**
+ * 원본 한 장의 처리 결과 (파생 이미지 + 지각 해시 + 자리 표시 이미지)
+ */
+public record ProcessedImage(
+        List<ImageDerivative> derivatives,
+        long perceptualHash,
+        String blurHash,
+        String lqip
+) {
+}
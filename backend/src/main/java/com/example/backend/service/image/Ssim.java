@@ -0,0 +1,74 @@
+package com.example.backend.service.image;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 구조적 유사도 (SSIM), 밝기 채널을 8x8 블록으로 나눠 계산한 평균
+ * 1 에 가까울수록 원본과 같음
+ */
+final class Ssim {
+
+    private static final int BLOCK = 8;
+    private static final double C1 = (0.01 * 255) * (0.01 * 255);
+    private static final double C2 = (0.03 * 255) * (0.03 * 255);
+
+    private Ssim() {
+    }
+
+    /**
+     * 밝기 (BT.601) 배열, 행 단위로 한 번에 읽음
+     */
+    static float[] luma(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        float[] luma = new float[width * height];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                luma[y * width + x] = 0.299f * ((rgb >> 16) & 0xff)
+                        + 0.587f * ((rgb >> 8) & 0xff)
+                        + 0.114f * (rgb & 0xff);
+            }
+        }
+        return luma;
+    }
+
+    static double compute(float[] reference, float[] candidate, int width, int height) {
+        if (width < BLOCK || height < BLOCK) {
+            return 1.0;
+        }
+
+        double total = 0;
+        int blocks = 0;
+        int pixels = BLOCK * BLOCK;
+        for (int by = 0; by + BLOCK <= height; by += BLOCK) {
+            for (int bx = 0; bx + BLOCK <= width; bx += BLOCK) {
+                double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+                for (int y = by; y < by + BLOCK; y++) {
+                    int offset = y * width;
+                    for (int x = bx; x < bx + BLOCK; x++) {
+                        double a = reference[offset + x];
+                        double b = candidate[offset + x];
+                        sumX += a;
+                        sumY += b;
+                        sumXX += a * a;
+                        sumYY += b * b;
+                        sumXY += a * b;
+                    }
+                }
+                double meanX = sumX / pixels;
+                double meanY = sumY / pixels;
+                double varX = sumXX / pixels - meanX * meanX;
+                double varY = sumYY / pixels - meanY * meanY;
+                double covariance = sumXY / pixels - meanX * meanY;
+
+                total += ((2 * meanX * meanY + C1) * (2 * covariance + C2))
+                        / ((meanX * meanX + meanY * meanY + C1) * (varX + varY + C2));
+                blocks++;
+            }
+        }
+        return total / blocks;
+    }
+}
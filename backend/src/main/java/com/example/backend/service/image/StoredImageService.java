@@ -0,0 +1,63 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.StoredImage;
+import com.example.backend.repository.StoredImageRepository;
+import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.StoredOriginal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 내용 주소 이미지 참조 관리
+ * acquire / release 는 호출한 트랜잭션 안에서 실행되어야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+
+    private final StoredImageRepository storedImageRepository;
+    private final S3Service s3Service;
+
+    public boolean isStored(String contentHash) {
+        return storedImageRepository.existsById(contentHash);
+    }
+
+    /**
+     * 참조 획득
+     * PUT 을 생략한 원본인데 행이 새로 생성됐다면 그 사이 마지막 참조가 해제되어 객체가 삭제되는 중이므로 롤백
+     */
+    public StoredImage acquire(StoredOriginal original) {
+        int affected = storedImageRepository.acquire(original.contentHash(), original.key());
+        if (original.reused() && affected == 1) {
+            throw new IllegalStateException("같은 이미지가 삭제되는 중입니다. 다시 업로드해 주세요");
+        }
+        return storedImageRepository.findById(original.contentHash())
+                .orElseThrow(() -> new IllegalStateException("Stored image not found"));
+    }
+
+    /**
+     * 참조 해제
+     * 마지막 참조였다면 행을 지우고 커밋 이후 원본과 파생 이미지 객체 삭제
+     */
+    public void release(String contentHash) {
+        storedImageRepository.release(contentHash);
+
+        StoredImage stored = storedImageRepository.findById(contentHash).orElse(null);
+        if (stored == null || stored.getRefCount() > 0) return;
+
+        String originalKey = stored.getOriginalKey();
+        storedImageRepository.delete(stored);
+        log.info("마지막 참조 해제, 이미지 삭제 예약: {}", contentHash);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                s3Service.deleteContent(contentHash, originalKey);
+            }
+        });
+    }
+}
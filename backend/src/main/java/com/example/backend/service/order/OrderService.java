@@ -8,6 +8,8 @@ import com.example.backend.dto.response.OrderResponseDTO;
 import com.example.backend.repository.OrderRepository;
 import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,6 +30,7 @@ public class OrderService {
     private final UserRepository userRepository;
     private final PhotoRepository photoRepository;
     private final OrderRepository orderRepository;
+    private final TrendingEngine trendingEngine;
 
     /**
      * 사진 주문 메서드
@@ -85,6 +88,13 @@ public class OrderService {
         order.setTotalPrice(totalOrderPrice);
 
         orderRepository.save(order);
+        for (OrderItems orderItem : order.getOrderItems()) {
+            if (!orderItem.getPhoto().isFeedEligible()) {
+                continue;
+            }
+            trendingEngine.record(ViewTarget.PHOTO, orderItem.getPhoto().getPhotoId(), TrendingSignal.ORDER,
+                    orderItem.getQuantity() == null ? 1 : orderItem.getQuantity());
+        }
 
         return OrderResponseDTO.fromEntity(order);
     }
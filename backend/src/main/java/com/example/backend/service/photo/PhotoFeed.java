@@ -0,0 +1,12 @@
+package com.example.backend.service.photo;
+
+import com.example.backend.dto.response.PhotoResponseDTO;
+
+import java.util.List;
+
+/**
+ * 공개 피드 한 페이지
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record PhotoFeed(List<PhotoResponseDTO> photos, String nextCursor) {
+}
@@ -0,0 +1,85 @@
+package com.example.backend.service.photo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 공개 피드 키셋 커서 (마지막으로 받은 사진의 정렬 키 + photoId)
+ * 클라이언트에는 Base64URL 문자열로만 전달 (내용에 의존하지 않도록)
+ * 예) newest -> "n|2025-01-01T12:00:00.123456|42", popular (순 방문자 수) -> "p|1024|42"
+ * trending 은 메모리 순위의 위치 -> "t|60|0"
+ */
+public record PhotoFeedCursor(String sort, String sortKey, Long photoId) {
+
+    private static final String NEWEST = "n";
+    private static final String POPULAR = "p";
+    private static final String TRENDING = "t";
+
+    public static PhotoFeedCursor newest(LocalDateTime createdAt, Long photoId) {
+        return new PhotoFeedCursor(NEWEST, createdAt.toString(), photoId);
+    }
+
+    public static PhotoFeedCursor popular(Long uniqueViewers, Long photoId) {
+        return new PhotoFeedCursor(POPULAR, String.valueOf(uniqueViewers), photoId);
+    }
+
+    public static PhotoFeedCursor trending(int offset) {
+        return new PhotoFeedCursor(TRENDING, String.valueOf(offset), 0L);
+    }
+
+    public boolean isPopular() {
+        return POPULAR.equals(sort);
+    }
+
+    public boolean isTrending() {
+        return TRENDING.equals(sort);
+    }
+
+    public int offset() {
+        return Integer.parseInt(sortKey);
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public Long uniqueViewers() {
+        return Long.parseLong(sortKey);
+    }
+
+    public String encode() {
+        String raw = sort + "|" + sortKey + "|" + photoId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서는 IllegalArgumentException (400)
+     */
+    public static PhotoFeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+
+            PhotoFeedCursor cursor = new PhotoFeedCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            // 형식 검증
+            if (cursor.isPopular()) {
+                cursor.uniqueViewers();
+            } else if (NEWEST.equals(cursor.sort())) {
+                cursor.createdAt();
+            } else if (cursor.isTrending()) {
+                if (cursor.offset() < 0) {
+                    throw new IllegalArgumentException("잘못된 커서입니다");
+                }
+            } else {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.example.backend.service.photo;
 import com.example.backend.domain.Photo;
 import com.example.backend.domain.PhotoLikes;
 import com.example.backend.domain.Users;
+import com.example.backend.domain.ViewTarget;
 import com.example.backend.dto.response.PhotoLikesResponseDTO;
 import com.example.backend.repository.PhotoLikesRepository;
 import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +26,15 @@ public class PhotoLikesService {
     private final UserRepository userRepository;
     private final PhotoRepository photoRepository;
     private final PhotoLikesRepository photoLikesRepository;
+    private final TrendingEngine trendingEngine;
 
 
     /**
      * 사진 좋아요 메서드
      * photo와 user라는 두 인자만으로 이 user가 이 photo에 좋아요를 눌렀는지 를 DB에서 조회해서 확인하는 구조
+     * 좋아요 수는 같은 트랜잭션에서 like_count 를 ± 1 (COUNT 조회 없음)
      */
+    @Transactional
     public PhotoLikesResponseDTO toggleLike(Long photoId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
@@ -45,9 +51,10 @@ public class PhotoLikesService {
         if (existingLike.isPresent()) {
             // 삭제
             photoLikesRepository.delete(existingLike.get());
-            // 삭제후 DB 에 photoId(photo) 로 된 값들 갯수 가져와서 저장.
-            long count = photoLikesRepository.countByPhoto(photo);
-            return new PhotoLikesResponseDTO(count, false);
+            photoRepository.addLikeCount(photoId, -1);
+            // 좋아요를 누른 시각 기준으로 감쇠된 기여분만 되돌림
+            trendingEngine.retract(ViewTarget.PHOTO, photoId, TrendingSignal.LIKE, existingLike.get().getCreatedAt());
+            return new PhotoLikesResponseDTO(photoRepository.findLikeCount(photoId), false);
         }
         // 없을시 photo & user 연결 저장
         PhotoLikes likes = PhotoLikes.builder()
@@ -55,10 +62,12 @@ public class PhotoLikesService {
                 .user(user)
                 .build();
         photoLikesRepository.save(likes);
+        photoRepository.addLikeCount(photoId, 1);
+        if (photo.isFeedEligible()) {
+            trendingEngine.record(ViewTarget.PHOTO, photoId, TrendingSignal.LIKE);
+        }
 
-        //  count 의 수는 PhotoLikes DB 에 레코드에 남아있는 Photo_id 수와 같음
-        long count = photoLikesRepository.countByPhoto(photo);
-        return new PhotoLikesResponseDTO(count, true);
+        return new PhotoLikesResponseDTO(photoRepository.findLikeCount(photoId), true);
     }
 
     /**
@@ -69,7 +78,7 @@ public class PhotoLikesService {
         Photo photo = photoRepository.findById(photoId)
                 .orElseThrow(() -> new EntityNotFoundException("Photo not found"));
 
-        long likeCount = photoLikesRepository.countByPhoto(photo);
+        long likeCount = photo.getLikeCount();
 
         boolean liked = false;
         if (email != null) {
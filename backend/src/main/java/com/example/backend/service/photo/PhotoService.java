@@ -2,41 +2,87 @@ package com.example.backend.service.photo;
 
 import com.example.backend.domain.Exhibition;
 import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoStatus;
+import com.example.backend.domain.StoredImage;
 import com.example.backend.domain.Users;
+import com.example.backend.domain.ViewTarget;
+import com.example.backend.dto.request.PhotoFinalizeRequestDTO;
+import com.example.backend.dto.request.PhotoPresignRequestDTO;
 import com.example.backend.dto.request.PhotoRequestDTO;
 import com.example.backend.dto.response.PhotoResponseDTO;
+import com.example.backend.dto.response.PresignedUploadResponseDTO;
 import com.example.backend.repository.ExhibitionRepository;
 import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
 import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.StoredOriginal;
+import com.example.backend.service.cache.ResponseCache;
+import com.example.backend.service.feed.FeedChangedEvent;
+import com.example.backend.service.image.ExifMetadata;
+import com.example.backend.service.image.ImageHeader;
+import com.example.backend.service.image.ImageJobService;
+import com.example.backend.service.image.PerceptualHashIndex;
+import com.example.backend.service.image.StoredImageService;
+import com.example.backend.service.trending.TrendingEngine;
+import com.example.backend.service.trending.TrendingSignal;
+import com.example.backend.service.view.UniqueViewerCounter;
+import com.example.backend.service.view.ViewCountBuffer;
+import com.example.backend.service.view.ViewerFingerprint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PhotoService {
 
+    // 공개 피드 한 페이지 최대 사진 수
+    public static final int FEED_MAX_PAGE_SIZE = 100;
+
     private final PhotoRepository photoRepository;
     private final S3Service s3Service;
     private final ExhibitionRepository exhibitionRepository;
     private final UserRepository userRepository;
+    private final ImageJobService imageJobService;
+    private final StoredImageService storedImageService;
+    private final PerceptualHashIndex perceptualHashIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final ViewerFingerprint viewerFingerprint;
+    private final TrendingEngine trendingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResponseCache responseCache;
 
     /**
      * 사진 업로드
+     * 원본만 내용 해시 키로 S3 에 저장하고 PROCESSING 상태로 바로 응답
+     * 파생 이미지는 이미지 작업 큐의 워커가 생성
+     * 이미 처리된 같은 이미지가 있으면 재압축 / 재업로드 없이 READY 로 응답
+     * S3 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션은 행 저장 구간에만 사용
      *
      * @param files
      * @param dto
      * @return
      */
-    @Transactional
     public List<PhotoResponseDTO> uploadPhoto(
             List<MultipartFile> files,
             PhotoRequestDTO dto
@@ -51,34 +97,140 @@ public class PhotoService {
                 exhibitionRepository.findById(dto.getExhibitionId())
                         .orElseThrow(() -> new RuntimeException("Exhibition not found"));
 
-        // S3 업로드 후  Url 반환
-        List<String> urls = s3Service.upload(files);
-        log.info("photoService file URLS{}", urls);
+        // S3 원본 저장 (이미 저장된 내용이면 PUT 생략)
+        List<StoredOriginal> originals = s3Service.storeOriginals(files, storedImageService::isStored);
+        log.info("photoService original keys {}", originals.stream().map(StoredOriginal::key).toList());
 
+        // 1. DB 저장 (참조 + 사진 + 작업)
+        List<Photo> savedPhotos = transactionTemplate.execute(status ->
+                saveStoredPhotos(user, exhibition, dto, originals));
+
+        // 2. 엔티티 목록을 DTO 목록으로 변환하여 반환
+        return savedPhotos.stream()
+                .map(PhotoResponseDTO::fromEntity) // DTO 변환 메서드 사용
+                .toList();
+    }
+
+    /**
+     * 브라우저 직접 업로드용 presigned URL 발급
+     * 이미지 바이트는 앱 서버를 거치지 않고 S3 로 바로 올라감
+     */
+    public List<PresignedUploadResponseDTO> presignUploads(PhotoPresignRequestDTO dto) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Users user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // 1. DB 저장 (엔티티 목록)
-        List<Photo> savedPhotos = urls.stream()
-                .map(url -> dto.toEntity(user, exhibition, url))
-                .map(photoRepository::save)
+        return dto.getFileNames().stream()
+                .map(fileName -> s3Service.presignOriginalUpload(user.getUserId(), fileName))
                 .toList();
+    }
+
+    /**
+     * 직접 업로드 완료 처리
+     * 본인이 올린 원본인지, 실제로 존재하는지 확인 후 사진 행 생성
+     * 파생 이미지는 이미지 작업 큐에서 생성 (응답의 imageUrl 은 비어 있음)
+     */
+    public List<PhotoResponseDTO> finalizeUpload(PhotoFinalizeRequestDTO request) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Users user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        PhotoRequestDTO dto = request.getPhoto();
+        final Exhibition exhibition = dto.getExhibitionId() == null ? null :
+                exhibitionRepository.findById(dto.getExhibitionId())
+                        .orElseThrow(() -> new RuntimeException("Exhibition not found"));
+
+        List<ImageHeader> headers = new ArrayList<>(request.getKeys().size());
+        for (String key : request.getKeys()) {
+            if (!s3Service.isOriginalOwnedBy(key, user.getUserId())) {
+                throw new IllegalArgumentException("본인이 업로드한 파일만 등록할 수 있습니다");
+            }
+            headers.add(s3Service.verifyOriginal(key));
+        }
+
+        List<Photo> savedPhotos = transactionTemplate.execute(status ->
+                savePendingPhotos(user, exhibition, dto, request.getKeys(), headers));
 
-        // 2. 엔티티 목록을 DTO 목록으로 변환하여 반환 (추가된 로직)
         return savedPhotos.stream()
-                .map(PhotoResponseDTO::fromEntity) // DTO 변환 메서드 사용
+                .map(PhotoResponseDTO::fromEntity)
                 .toList();
     }
 
+    /**
+     * 내용 주소 원본의 참조를 획득하고 사진 행 저장
+     * 파생 이미지가 이미 있는 내용이면 바로 READY, 아니면 작업 등록
+     */
+    private List<Photo> saveStoredPhotos(Users user, Exhibition exhibition, PhotoRequestDTO dto, List<StoredOriginal> originals) {
+        List<Photo> photos = new ArrayList<>(originals.size());
+        for (StoredOriginal original : originals) {
+            StoredImage stored = storedImageService.acquire(original);
+            Photo photo = dto.toPendingEntity(user, exhibition, stored.getOriginalKey(), stored.getContentHash());
+            recordHeader(photo, original.header());
+            photoRepository.save(photo);
+
+            if (stored.isProcessed()) {
+                photo.completeProcessing(stored);
+                perceptualHashIndex.register(photo);
+            } else {
+                imageJobService.enqueue(photo.getPhotoId());
+            }
+            photos.add(photo);
+        }
+        publishFeedChanged(exhibition);
+        return photos;
+    }
+
+    /**
+     * PROCESSING 사진 행과 파생 이미지 작업을 같은 트랜잭션에 저장
+     * 직접 업로드 원본은 워커가 해시를 계산해서 내용 주소 원본으로 옮김
+     */
+    private List<Photo> savePendingPhotos(Users user, Exhibition exhibition, PhotoRequestDTO dto,
+                                          List<String> originalKeys, List<ImageHeader> headers) {
+        List<Photo> photos = new ArrayList<>(originalKeys.size());
+        for (int i = 0; i < originalKeys.size(); i++) {
+            ImageHeader header = headers.get(i);
+            Photo photo = dto.toPendingEntity(user, exhibition, originalKeys.get(i), null);
+            recordHeader(photo, header);
+            photos.add(photoRepository.save(photo));
+        }
+
+        photos.forEach(photo -> imageJobService.enqueue(photo.getPhotoId()));
+        publishFeedChanged(exhibition);
+        return photos;
+    }
+
+    /**
+     * 업로드시 읽은 헤더 (크기 / EXIF 촬영 정보) 기록
+     */
+    private void recordHeader(Photo photo, ImageHeader header) {
+        photo.recordSource(header.format(), header.width(), header.height());
+        ExifMetadata exif = header.exif();
+        photo.recordCapture(exif.takenAt(), exif.cameraMake(), exif.cameraModel(), exif.lensModel(), exif.iso());
+    }
+
     /**
      * 사진 조회
-     * 조회수 증가
+     * 조회수는 버퍼에 모았다가 주기적으로 반영 (읽기 전용 트랜잭션)
+     * 응답은 직렬화된 JSON 바이트 (ResponseCache)
      */
-    @Transactional
-    public PhotoResponseDTO getPhoto(Long photoId) {
-        Photo photo = photoRepository.findById(photoId)
-                .orElseThrow(() -> new RuntimeException("Photo not found"));
-        photo.increaseViewCount();
+    @Transactional(readOnly = true)
+    public byte[] getPhoto(Long photoId) {
+        List<Object[]> versions = photoRepository.findResponseVersion(photoId);
+        if (versions.isEmpty()) {
+            throw new RuntimeException("Photo not found");
+        }
+        viewCountBuffer.recordPhotoView(photoId);
+        uniqueViewerCounter.recordView(ViewTarget.PHOTO, photoId, viewerFingerprint.current());
+        // 전시회 사진 / 처리 중 사진은 공개 피드에 나오지 않으므로 인기 순위에 넣지 않음
+        Object[] version = versions.get(0);
+        if (version[4] == null && PhotoStatus.isReady((PhotoStatus) version[5])) {
+            trendingEngine.record(ViewTarget.PHOTO, photoId, TrendingSignal.VIEW);
+        }
 
-        return PhotoResponseDTO.fromEntity(photo);
+        // 버전이 같으면 엔티티를 읽지 않고 캐시된 JSON 바이트로 응답
+        return responseCache.get(ViewTarget.PHOTO, photoId, Arrays.toString(version), () ->
+                PhotoResponseDTO.fromEntity(photoRepository.findById(photoId)
+                        .orElseThrow(() -> new RuntimeException("Photo not found"))));
 
     }
 
@@ -101,19 +253,134 @@ public class PhotoService {
 
     /**
      * 모든 사진 조회
-     * 조회시 인기순과 최신순
-     * 전시회에 포함돼있지 않은 사진만 모두 조회
+     * 조회시 인기순 (HyperLogLog 순 방문자 수), 최신순, 트렌딩 (시간 감쇠 점수)
+     * 전시회에 포함돼있지 않은 사진을 커서 기반으로 한 페이지씩 조회
+     * (정렬 키, photoId) 키셋 조건으로 다음 페이지를 찾으므로 뒤 페이지도 OFFSET 스캔 없이 인덱스 범위 조회
+     * 커서의 정렬 방식이 sort 와 다르면 IllegalArgumentException (400)
      */
     @Transactional(readOnly = true)
-    public List<PhotoResponseDTO> getAllPhotos(String sort) {
-        List<Photo> photos;
+    public PhotoFeed getAllPhotos(String sort, String cursorToken, int size) {
+        String normalized = normalizeSort(sort);
+        boolean popular = "popular".equals(normalized);
+        boolean trending = "trending".equals(normalized);
+        PhotoFeedCursor cursor = cursorToken == null || cursorToken.isBlank() ? null : PhotoFeedCursor.decode(cursorToken);
+        if (cursor != null && (cursor.isPopular() != popular || cursor.isTrending() != trending)) {
+            throw new IllegalArgumentException("정렬 방식이 커서와 다릅니다");
+        }
 
-        if ("popular".equals(sort)) {
-            photos = photoRepository.findByExhibitionIsNullOrderByPhotoViewCountDesc();
+        int pageSize = clampFeedSize(size);
+        if (trending) {
+            return getTrendingPhotos(cursor == null ? 0 : cursor.offset(), pageSize);
+        }
+        // 한 개 더 조회해서 다음 페이지 존재 여부 확인
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Photo> photos;
+        if (popular) {
+            photos = cursor == null
+                    ? photoRepository.findPopularFeed(limit)
+                    : photoRepository.findPopularFeedAfter(cursor.uniqueViewers(), cursor.photoId(), limit);
         } else {
-            photos = photoRepository.findByExhibitionIsNullOrderByCreatedAtDesc();
+            photos = cursor == null
+                    ? photoRepository.findNewestFeed(limit)
+                    : photoRepository.findNewestFeedAfter(cursor.createdAt(), cursor.photoId(), limit);
         }
-        return photos.stream()
+
+        String nextCursor = null;
+        if (photos.size() > pageSize) {
+            photos = photos.subList(0, pageSize);
+            Photo last = photos.get(pageSize - 1);
+            nextCursor = (popular
+                    ? PhotoFeedCursor.popular(last.getUniqueViewerCount(), last.getPhotoId())
+                    : PhotoFeedCursor.newest(last.getCreatedAt(), last.getPhotoId()))
+                    .encode();
+        }
+
+        return new PhotoFeed(photos.stream()
+                .map(PhotoResponseDTO::fromEntity)
+                .toList(), nextCursor);
+    }
+
+    /**
+     * 정렬 이름 정규화 (알 수 없는 값은 최신순)
+     */
+    public static String normalizeSort(String sort) {
+        return "popular".equals(sort) || "trending".equals(sort) ? sort : "newest";
+    }
+
+    public static int clampFeedSize(int size) {
+        return Math.max(1, Math.min(size, FEED_MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 시간 감쇠 인기 순위 (TrendingEngine 메모리 순위) 에서 offset 부터 한 페이지
+     * 순위는 이벤트마다 바뀌므로 다음 페이지는 순위 위치 기준 (중복 / 누락이 조금 있을 수 있음)
+     * 삭제됐거나 공개 피드 대상이 아닌 사진은 순위에서 빼고 다음 순위로 채움 (한 페이지가 모자라지 않음)
+     */
+    private PhotoFeed getTrendingPhotos(int offset, int pageSize) {
+        List<Long> ranked = trendingEngine.top(ViewTarget.PHOTO);
+        List<PhotoResponseDTO> page = new ArrayList<>(pageSize);
+        int position = Math.min(offset, ranked.size());
+
+        while (page.size() < pageSize && position < ranked.size()) {
+            List<Long> window = ranked.subList(position, Math.min(position + pageSize - page.size(), ranked.size()));
+            position += window.size();
+
+            Map<Long, Photo> photos = photoRepository.findAllById(window).stream()
+                    .collect(Collectors.toMap(Photo::getPhotoId, Function.identity()));
+            for (Long photoId : window) {
+                Photo photo = photos.get(photoId);
+                if (photo == null || !photo.isFeedEligible()) {
+                    trendingEngine.remove(ViewTarget.PHOTO, photoId);
+                    continue;
+                }
+                page.add(PhotoResponseDTO.fromEntity(photo));
+            }
+        }
+
+        String nextCursor = position < ranked.size() ? PhotoFeedCursor.trending(position).encode() : null;
+        return new PhotoFeed(page, nextCursor);
+    }
+
+    /**
+     * 촬영 정보로 사진 필터 (카메라 모델, 촬영일 takenFrom ~ takenTo 포함)
+     * 촬영일 최신순, 최대 FEED_MAX_PAGE_SIZE 개
+     */
+    @Transactional(readOnly = true)
+    public List<PhotoResponseDTO> getPhotosByCapture(String cameraModel, LocalDate takenFrom, LocalDate takenTo) {
+        return photoRepository.findByCapture(
+                        cameraModel,
+                        takenFrom == null ? null : takenFrom.atStartOfDay(),
+                        takenTo == null ? null : takenTo.plusDays(1).atStartOfDay(),
+                        PageRequest.of(0, FEED_MAX_PAGE_SIZE))
+                .stream()
+                .map(PhotoResponseDTO::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 유사 사진 조회 (지각 해시 해밍 거리 가까운 순)
+     * 재크롭 / 재압축된 복제본 확인용
+     */
+    @Transactional(readOnly = true)
+    public List<PhotoResponseDTO> getSimilarPhotos(Long photoId, int distance) {
+        Photo photo = photoRepository.findById(photoId)
+                .orElseThrow(() -> new RuntimeException("Photo not found"));
+        if (photo.getPerceptualHash() == null) {
+            return List.of();
+        }
+
+        List<Long> similarIds = perceptualHashIndex.search(photo.getPerceptualHash(), distance).stream()
+                .map(PerceptualHashIndex.Match::photoId)
+                .filter(id -> !id.equals(photoId))
+                .toList();
+
+        // 인덱스 순서(거리순) 유지
+        Map<Long, Photo> photos = photoRepository.findAllById(similarIds).stream()
+                .collect(Collectors.toMap(Photo::getPhotoId, Function.identity()));
+        return similarIds.stream()
+                .map(photos::get)
+                .filter(Objects::nonNull)
                 .map(PhotoResponseDTO::fromEntity)
                 .toList();
     }
@@ -133,6 +400,7 @@ public class PhotoService {
             throw new AccessDeniedException("소유자만 수정 할 수 있습니다");
         }
         photo.updatePhoto(dto);
+        publishFeedChanged(photo.getExhibition());
 
         // 2. DB에 변경사항 자동 반영 (Dirty Checking)
         return PhotoResponseDTO.fromEntity(photoRepository.save(photo));
@@ -152,6 +420,24 @@ public class PhotoService {
 
         }
         photoRepository.delete(photo);
+        perceptualHashIndex.remove(photoId);
+        trendingEngine.remove(ViewTarget.PHOTO, photoId);
+        publishFeedChanged(photo.getExhibition());
+
+        // 같은 이미지를 참조하는 마지막 사진이면 커밋 후 S3 객체 삭제
+        if (photo.getContentHash() != null) {
+            storedImageService.release(photo.getContentHash());
+        }
+
+    }
 
+    /**
+     * 커밋 후 공개 사진 목록 (전시회에 속하면 전시회 목록도) 캐시 비움
+     */
+    private void publishFeedChanged(Exhibition exhibition) {
+        eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.PHOTO));
+        if (exhibition != null) {
+            eventPublisher.publishEvent(new FeedChangedEvent(ViewTarget.EXHIBITION));
+        }
     }
 }
@@ -0,0 +1,169 @@
+package com.example.backend.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 로컬 저장소 파일의 열린 FileChannel LRU 캐시
+ * 자주 조회되는 갤러리 이미지는 요청마다 open / fstat / close 하지 않고 같은 채널을 재사용
+ * 위치 지정 읽기 (transferTo(position, ...)) 만 사용하므로 여러 요청이 한 채널을 동시에 공유해도 됨
+ * 캐시에서 밀려난 채널은 사용 중인 요청이 모두 반납한 뒤에 닫음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class FileChannelCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Path, Entry> entries;
+
+    public FileChannelCache(@Value("${image.media.channel-cache-size:256}") int capacity) {
+        this.capacity = capacity;
+        // accessOrder = true -> 조회할 때마다 맨 뒤로 이동 (LRU)
+        this.entries = new LinkedHashMap<>(capacity, 0.75f, true);
+    }
+
+    /**
+     * 열린 채널 하나와 열 때 읽은 파일 정보
+     * 다 쓰면 반드시 close 로 반납
+     */
+    public static final class Entry implements AutoCloseable {
+        private final FileChannel channel;
+        private final long size;
+        private final long lastModified;
+        private int references;
+        private boolean evicted;
+
+        private Entry(FileChannel channel, long size, long lastModified) {
+            this.channel = channel;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public FileChannel channel() {
+            return channel;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public void close() {
+            boolean closeNow;
+            synchronized (this) {
+                references--;
+                closeNow = evicted && references == 0;
+            }
+            if (closeNow) {
+                closeChannel(this);
+            }
+        }
+
+        private synchronized void retain() {
+            references++;
+        }
+
+        /**
+         * 캐시에서 빠짐, 사용 중이 아니면 바로 닫아도 되는지 반환
+         */
+        private synchronized boolean evict() {
+            evicted = true;
+            return references == 0;
+        }
+    }
+
+    /**
+     * 캐시된 채널을 빌려줌, 없으면 열어서 캐시에 넣음
+     * 파일이 없으면 NoSuchFileException
+     */
+    public Entry acquire(Path path) throws IOException {
+        synchronized (entries) {
+            Entry cached = entries.get(path);
+            if (cached != null) {
+                cached.retain();
+                return cached;
+            }
+        }
+
+        // 여는 동안 다른 요청을 막지 않도록 락 밖에서 open
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        Entry opened;
+        try {
+            opened = new Entry(channel, channel.size(), Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        List<Entry> evicted = new ArrayList<>();
+        Entry result;
+        synchronized (entries) {
+            Entry raced = entries.get(path);
+            if (raced != null) {
+                // 같은 파일을 다른 요청이 먼저 넣었으면 그쪽을 사용
+                evicted.add(opened);
+                opened.evict();
+                result = raced;
+            } else {
+                entries.put(path, opened);
+                result = opened;
+                Iterator<Entry> iterator = entries.values().iterator();
+                while (entries.size() > capacity && iterator.hasNext()) {
+                    Entry eldest = iterator.next();
+                    iterator.remove();
+                    if (eldest.evict()) {
+                        evicted.add(eldest);
+                    }
+                }
+            }
+            result.retain();
+        }
+
+        evicted.forEach(FileChannelCache::closeChannel);
+        return result;
+    }
+
+    /**
+     * 파일이 교체 / 삭제됐을 때 캐시에서 제거 (다음 요청은 새 파일을 엶)
+     */
+    public void invalidate(Path path) {
+        Entry removed;
+        synchronized (entries) {
+            removed = entries.remove(path);
+        }
+        if (removed != null && removed.evict()) {
+            closeChannel(removed);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static void closeChannel(Entry entry) {
+        try {
+            entry.channel.close();
+        } catch (IOException e) {
+            log.warn("파일 채널 닫기 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.service.storage;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 객체 저장소
+ * image.storage.type 으로 구현 선택 (s3 기본, local)
+ * 키는 "originals/{sha256}.jpg" 처럼 / 로 구분된 상대 경로
+ */
+public interface ImageStorage {
+
+    /**
+     * 객체 저장 (같은 키가 있으면 덮어씀)
+     * publicRead 면 publicUrl 로 누구나 조회 가능
+     */
+    void put(String key, String contentType, StorageContent content, boolean publicRead);
+
+    /**
+     * 객체 전체 읽기, 호출한 쪽이 닫아야 함
+     */
+    InputStream open(String key);
+
+    /**
+     * 앞부분만 읽고 닫을 스트림 (헤더 검사용)
+     * 닫을 때 남은 본문을 받지 않고 연결을 끊음
+     */
+    InputStream openHead(String key);
+
+    /**
+     * 객체 크기, 없으면 empty
+     */
+    OptionalLong size(String key);
+
+    void copy(String sourceKey, String targetKey);
+
+    void delete(String key);
+
+    void deleteAll(Collection<String> keys);
+
+    /**
+     * prefix 로 시작하는 객체를 페이지 단위로 읽어오는 스트림 (전체 목록을 메모리에 올리지 않음)
+     * 호출한 쪽이 닫아야 함
+     */
+    Stream<StoredObject> list(String prefix);
+
+    String publicUrl(String key);
+
+    /**
+     * 브라우저 직접 업로드용 서명 url
+     * 지원하지 않는 저장소는 IllegalStateException
+     */
+    PresignedPut presignPut(String key, String contentType, Duration expiration);
+}
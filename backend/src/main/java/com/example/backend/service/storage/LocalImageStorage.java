@@ -0,0 +1,232 @@
+package com.example.backend.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소 (단일 노드 설치 / 네트워크 없는 부하 테스트용)
+ * 키의 해시 앞 4자리로 두 단계 샤딩해서 한 디렉터리에 파일이 몰리지 않게 함
+ * 예) originals/abc.jpg -> {root}/7f/3a/originals/abc.jpg
+ * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적 rename 으로 교체하므로 읽는 쪽은 완성된 파일만 봄
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    /**
+     * 쓰기 내구성 정책
+     * NONE: OS 페이지 캐시에 맡김 (벤치마크용)
+     * FILE: rename 전 파일 내용 fsync
+     * FILE_AND_DIRECTORY: rename 후 디렉터리 엔트리까지 fsync (전원 장애에도 파일이 남음)
+     */
+    public enum FsyncPolicy {
+        NONE, FILE, FILE_AND_DIRECTORY
+    }
+
+    private final Path rootDir;
+    private final String publicBaseUrl;
+    private final FsyncPolicy fsyncPolicy;
+    private final FileChannelCache channelCache;
+
+    public LocalImageStorage(FileChannelCache channelCache,
+                             @Value("${image.storage.local.root-dir:${java.io.tmpdir}/photoexpo-images}") String rootDir,
+                             @Value("${image.storage.local.public-base-url:/media/}") String publicBaseUrl,
+                             @Value("${image.storage.local.fsync:FILE}") FsyncPolicy fsyncPolicy) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
+        this.fsyncPolicy = fsyncPolicy;
+        this.channelCache = channelCache;
+        Files.createDirectories(this.rootDir);
+        log.info("로컬 이미지 저장소: {} (fsync={})", this.rootDir, fsyncPolicy);
+    }
+
+    /**
+     * 키에 해당하는 파일 경로
+     */
+    public Path pathOf(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.contains("..") || key.contains("\\")) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+
+        String shard = sha256Hex(key);
+        Path path = rootDir.resolve(shard.substring(0, 2))
+                .resolve(shard.substring(2, 4))
+                .resolve(key)
+                .normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+        return path;
+    }
+
+    @Override
+    public void put(String key, String contentType, StorageContent content, boolean publicRead) {
+        Path target = pathOf(key);
+        try (InputStream inputStream = content.newInputStream()) {
+            write(target, inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 쓰기 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(pathOf(key));
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("저장소에 객체가 존재하지 않습니다: " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openHead(String key) {
+        return open(key);
+    }
+
+    @Override
+    public OptionalLong size(String key) {
+        Path path = pathOf(key);
+        try {
+            return OptionalLong.of(Files.size(path));
+        } catch (NoSuchFileException e) {
+            return OptionalLong.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        try (InputStream inputStream = open(sourceKey)) {
+            write(pathOf(targetKey), inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 복사 실패: " + sourceKey, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Path path = pathOf(key);
+            Files.deleteIfExists(path);
+            channelCache.invalidate(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * 샤딩 디렉터리 두 단계를 뺀 경로가 키, 쓰는 중인 임시 파일은 제외
+     */
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        Stream<Path> files;
+        try {
+            files = Files.find(rootDir, Integer.MAX_VALUE, (path, attributes) -> attributes.isRegularFile()
+                    && !path.getFileName().toString().startsWith(".upload-"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return files
+                .filter(path -> rootDir.relativize(path).getNameCount() > 2)
+                .map(this::toStoredObject)
+                .filter(object -> object != null && object.key().startsWith(prefix));
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + key;
+    }
+
+    @Override
+    public PresignedPut presignPut(String key, String contentType, Duration expiration) {
+        throw new IllegalStateException("로컬 저장소는 직접 업로드(presigned URL)를 지원하지 않습니다");
+    }
+
+    /**
+     * 임시 파일에 쓰고 fsync 정책에 따라 동기화한 뒤 원자적으로 교체
+     */
+    private void write(Path target, InputStream inputStream) throws IOException {
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = Channels.newOutputStream(channel);
+                inputStream.transferTo(outputStream);
+                if (fsyncPolicy != FsyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // 교체 전 파일을 가리키는 캐시된 채널 제거
+            channelCache.invalidate(target);
+
+            if (fsyncPolicy == FsyncPolicy.FILE_AND_DIRECTORY) {
+                // 디렉터리를 읽기 모드로 열어 force 하면 rename 결과(디렉터리 엔트리)가 디스크에 기록됨 (Linux)
+                try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                    directoryChannel.force(true);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private StoredObject toStoredObject(Path path) {
+        Path relative = rootDir.relativize(path);
+        String key = relative.subpath(2, relative.getNameCount()).toString().replace('\\', '/');
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            // 목록 조회 중 삭제됨
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256Hex(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.backend.service.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * 로컬 저장소 이미지 응답 (/media/{key})
+ * 큰 파일은 Tomcat sendfile 로 커널이 직접 소켓에 쓰게 하고,
+ * 작은 파일 (썸네일 등) 은 캐시된 FileChannel 에서 transferTo 로 바로 씀
+ * 키는 내용 / 랜덤 이름이라 한 번 저장된 키의 내용은 바뀌지 않으므로 immutable 캐시로 응답
+ */
+@Service
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class LocalMediaService {
+
+    // 비공개 원본은 응답하지 않음
+    private static final String ORIGINAL_PREFIX = "originals/";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat NIO 커넥터 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalImageStorage imageStorage;
+    private final FileChannelCache channelCache;
+    private final long sendfileMinBytes;
+
+    public LocalMediaService(LocalImageStorage imageStorage,
+                             FileChannelCache channelCache,
+                             @Value("${image.media.sendfile-min-bytes:49152}") long sendfileMinBytes) {
+        this.imageStorage = imageStorage;
+        this.channelCache = channelCache;
+        this.sendfileMinBytes = sendfileMinBytes;
+    }
+
+    /**
+     * 요청한 바이트 구간 [start, end] (end 포함)
+     */
+    private record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (key.startsWith(ORIGINAL_PREFIX)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path path;
+        try {
+            path = imageStorage.pathOf(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        FileChannelCache.Entry entry;
+        try {
+            entry = channelCache.acquire(path);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        try (entry) {
+            long size = entry.size();
+            String etag = "\"" + Long.toHexString(entry.lastModified()) + "-" + Long.toHexString(size) + "\"";
+
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            response.setContentType(contentTypeOf(key));
+
+            ByteRange range = new ByteRange(0, size - 1);
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 응답
+            if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+                ByteRange requested = parseRange(rangeHeader, size);
+                if (requested == null) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                if (requested.length() < size) {
+                    range = requested;
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + range.start() + "-" + range.end() + "/" + size);
+                }
+            }
+
+            response.setContentLengthLong(range.length());
+            if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+                return;
+            }
+
+            if (range.length() >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // 응답 본문은 서블릿 반환 후 커넥터가 sendfile 로 전송
+                request.setAttribute(SENDFILE_FILENAME, path.toString());
+                request.setAttribute(SENDFILE_START, range.start());
+                request.setAttribute(SENDFILE_END, range.end() + 1);
+                return;
+            }
+
+            transfer(entry.channel(), range, response);
+        }
+    }
+
+    /**
+     * 위치 지정 transferTo 로 채널 위치를 바꾸지 않고 전송 (다른 요청과 채널 공유)
+     */
+    private void transfer(FileChannel channel, ByteRange range, HttpServletResponse response) throws IOException {
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = range.start();
+        long remaining = range.length();
+        while (remaining > 0) {
+            long written = channel.transferTo(position, remaining, target);
+            if (written <= 0) {
+                // 응답 도중 파일이 잘린 경우
+                throw new IOException("파일 전송 중단: " + position);
+            }
+            position += written;
+            remaining -= written;
+        }
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 구간 Range 만 지원 (bytes=a-b, bytes=a-, bytes=-n)
+     * 여러 구간 요청은 전체 응답, 만족할 수 없는 구간은 null
+     */
+    private ByteRange parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new ByteRange(0, size - 1);
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new ByteRange(0, size - 1);
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // 마지막 n 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return null;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size || start > end) {
+                return null;
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return new ByteRange(0, size - 1);
+        }
+    }
+
+    private String contentTypeOf(String key) {
+        String extension = key.substring(key.lastIndexOf('.') + 1).toLowerCase();
+        return switch (extension) {
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            default -> "image/jpeg";
+        };
+    }
+}
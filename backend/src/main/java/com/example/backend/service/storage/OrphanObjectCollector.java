@@ -0,0 +1,195 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.repository.PhotoRepository;
+import com.example.backend.repository.StoredImageRepository;
+import com.example.backend.service.aws.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 행도 참조하지 않는 저장소 객체 정리
+ * 1. DB 의 참조 키 (내용 주소 원본 + 파생 이미지, 사진 url / 원본 키) 로 블룸 필터 생성
+ * 2. 이 코드가 관리하는 prefix (원본, 내용 주소 파생 이미지) 만 목록을 페이지 단위로 읽으면서
+ *    관리 대상 키 형식이고 필터에 확실히 없는 키만 고아로 판단
+ *    /s3/upload 로 올린 랜덤 이름 객체나 공유 버킷의 다른 객체는 삭제하지 않음
+ * 3. 업로드 직후 행이 아직 커밋되지 않은 객체를 지우지 않도록 유예 시간보다 오래된 객체만 삭제
+ * 블룸 필터 오탐은 고아를 남기는 쪽이라 참조 중인 객체를 지우지 않음
+ */
+@Slf4j
+@Service
+public class OrphanObjectCollector {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+    // 사진 1장이 참조하는 키 수 (원본 + 파생 3 + 대표 url) 여유 포함
+    private static final int KEYS_PER_ROW = 5;
+
+    private final ImageStorage imageStorage;
+    private final PhotoRepository photoRepository;
+    private final StoredImageRepository storedImageRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytes;
+    private final Timer runTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${image.gc.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${image.gc.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // true 면 삭제하지 않고 고아 수만 기록 (기본값, 로그로 대상 확인 후 끄기)
+    @Value("${image.gc.dry-run:true}")
+    private boolean dryRun;
+
+    public OrphanObjectCollector(ImageStorage imageStorage,
+                                 PhotoRepository photoRepository,
+                                 StoredImageRepository storedImageRepository,
+                                 S3Service s3Service,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.imageStorage = imageStorage;
+        this.photoRepository = photoRepository;
+        this.storedImageRepository = storedImageRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.scannedCounter = Counter.builder("image.gc.objects").tag("result", "scanned")
+                .description("고아 객체 정리에서 확인 / 삭제한 객체 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("image.gc.objects").tag("result", "deleted")
+                .description("고아 객체 정리에서 확인 / 삭제한 객체 수")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("image.gc.reclaimed")
+                .description("고아 객체 삭제로 회수한 저장 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("image.gc.duration")
+                .description("고아 객체 정리 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 번 실행 (이미 실행 중이면 건너뜀)
+     */
+    public void collect() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("고아 객체 정리가 이미 실행 중입니다");
+            return;
+        }
+        try {
+            runTimer.record(this::collectOnce);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void collectOnce() {
+        long startedAt = System.nanoTime();
+
+        // 필터는 목록 조회보다 먼저 만들어야 함 (그 사이 생긴 객체는 유예 시간으로 보호)
+        KeyBloomFilter liveKeys = transactionTemplate.execute(status -> buildLiveKeyFilter());
+        Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+
+        long scanned = 0;
+        long orphans = 0;
+        long bytes = 0;
+        List<StoredObject> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+
+        for (String prefix : s3Service.managedKeyPrefixes()) {
+            try (Stream<StoredObject> objects = imageStorage.list(prefix)) {
+                Iterator<StoredObject> iterator = objects.iterator();
+                while (iterator.hasNext()) {
+                    StoredObject object = iterator.next();
+                    scanned++;
+                    scannedCounter.increment();
+
+                    if (!s3Service.isManagedKey(object.key())
+                            || liveKeys.mightContain(object.key())
+                            || !object.lastModified().isBefore(cutoff)) {
+                        continue;
+                    }
+
+                    orphans++;
+                    bytes += object.size();
+                    batch.add(object);
+                    if (batch.size() == DELETE_BATCH_SIZE) {
+                        deleteBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleteBatch(batch);
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1e9, 0.001);
+        log.info("고아 객체 정리 완료{}: 확인 {}개, 고아 {}개 ({} KB), {} objects/s",
+                dryRun ? " (dry-run)" : "", scanned, orphans, bytes / 1024, Math.round(scanned / seconds));
+    }
+
+    /**
+     * 참조 중인 키 블룸 필터
+     * 큰 테이블도 한 번에 올리지 않도록 스트리밍으로 읽음 (읽기 트랜잭션 안에서 실행)
+     */
+    private KeyBloomFilter buildLiveKeyFilter() {
+        long expected = (photoRepository.count() + storedImageRepository.count()) * KEYS_PER_ROW;
+        KeyBloomFilter filter = new KeyBloomFilter(expected, falsePositiveRate);
+
+        try (Stream<Object[]> rows = storedImageRepository.streamContentKeys()) {
+            rows.forEach(row -> s3Service.contentKeys((String) row[0], (String) row[1]).forEach(filter::add));
+        }
+        try (Stream<String> keys = photoRepository.streamOriginalKeys()) {
+            keys.forEach(filter::add);
+        }
+        try (Stream<String> urls = photoRepository.streamImageUrls()) {
+            urls.map(this::keyOf).forEach(filter::add);
+        }
+        try (Stream<String> urls = photoRepository.streamVariantUrls()) {
+            urls.map(this::keyOf).forEach(filter::add);
+        }
+
+        log.info("참조 키 필터 생성: 예상 키 {}개, {} KB", expected, filter.memoryBytes() / 1024);
+        return filter;
+    }
+
+    /**
+     * 공개 url 의 마지막 경로 = 파생 이미지 키 (파생 이미지 키에는 / 가 없음)
+     */
+    private String keyOf(String url) {
+        return UriUtils.decode(url.substring(url.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+    }
+
+    private void deleteBatch(List<StoredObject> objects) {
+        if (dryRun) {
+            log.info("고아 객체 {}개 (dry-run, 삭제하지 않음) 예: {}", objects.size(), objects.get(0).key());
+            return;
+        }
+        try {
+            imageStorage.deleteAll(objects.stream().map(StoredObject::key).toList());
+            deletedCounter.increment(objects.size());
+            reclaimedBytes.increment(objects.stream().mapToLong(StoredObject::size).sum());
+        } catch (RuntimeException e) {
+            // 다음 실행에서 다시 시도
+            log.error("고아 객체 삭제 실패 ({}개): {}", objects.size(), e.getMessage());
+        }
+    }
+}
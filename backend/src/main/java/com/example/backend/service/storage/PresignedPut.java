@@ -0,0 +1,12 @@
+package com.example.backend.service.storage;
+
+import java.time.Instant;
+
+/**
+ * 클라이언트가 직접 PUT 할 수 있는 서명된 url
+ */
+public record PresignedPut(
+        String url,
+        Instant expiresAt
+) {
+}
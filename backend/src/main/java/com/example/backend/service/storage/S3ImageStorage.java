@@ -0,0 +1,178 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.service.aws.S3MultipartUploader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * S3 저장소
+ * 설정한 크기 이상은 멀티파트 업로드로 전환
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStorage implements ImageStorage {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3MultipartUploader multipartUploader;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3ImageStorage(S3Client s3Client, S3Presigner s3Presigner, S3MultipartUploader multipartUploader) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.multipartUploader = multipartUploader;
+    }
+
+    @Override
+    public void put(String key, String contentType, StorageContent content, boolean publicRead) {
+        ObjectCannedACL acl = publicRead ? ObjectCannedACL.PUBLIC_READ : ObjectCannedACL.PRIVATE;
+        long size = content.size();
+
+        if (multipartUploader.shouldUseMultipart(size)) {
+            try (StorageContent.PartReader parts = content.openParts()) {
+                multipartUploader.upload(bucket, key, contentType, acl, size, parts::read);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .acl(acl)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+
+        // 요청 body 는 내용을 복사 없이 스트림으로 읽음 (재시도시 새 스트림)
+        s3Client.putObject(putObjectRequest, RequestBody.fromContentProvider(() -> {
+            try {
+                return content.newInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, size, contentType));
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(request -> request.bucket(bucket).key(key));
+    }
+
+    @Override
+    public InputStream openHead(String key) {
+        ResponseInputStream<GetObjectResponse> object = s3Client.getObject(request -> request.bucket(bucket).key(key));
+        return new FilterInputStream(object) {
+            @Override
+            public void close() throws IOException {
+                object.abort();
+                super.close();
+            }
+        };
+    }
+
+    @Override
+    public OptionalLong size(String key) {
+        try {
+            return OptionalLong.of(s3Client.headObject(request -> request.bucket(bucket).key(key)).contentLength());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return OptionalLong.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        s3Client.copyObject(request -> request
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(request -> request.bucket(bucket).key(key));
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        List<ObjectIdentifier> objects = new ArrayList<>(Math.min(keys.size(), DELETE_BATCH_SIZE));
+        for (String key : keys) {
+            objects.add(ObjectIdentifier.builder().key(key).build());
+            if (objects.size() == DELETE_BATCH_SIZE) {
+                deleteBatch(objects);
+                objects = new ArrayList<>(DELETE_BATCH_SIZE);
+            }
+        }
+        if (!objects.isEmpty()) {
+            deleteBatch(objects);
+        }
+    }
+
+    /**
+     * ListObjectsV2 페이지 (최대 1000개) 를 필요할 때마다 요청
+     */
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        return s3Client.listObjectsV2Paginator(request -> request.bucket(bucket).prefix(prefix))
+                .contents()
+                .stream()
+                .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()));
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return s3Client.utilities().getUrl(url -> url.bucket(bucket).key(key)).toString();
+    }
+
+    @Override
+    public PresignedPut presignPut(String key, String contentType, Duration expiration) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(request -> request
+                .signatureDuration(expiration)
+                .putObjectRequest(put -> put
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)));
+
+        return new PresignedPut(presigned.url().toString(), presigned.expiration());
+    }
+
+    private void deleteBatch(List<ObjectIdentifier> objects) {
+        s3Client.deleteObjects(request -> request
+                .bucket(bucket)
+                .delete(delete -> delete.objects(objects).quiet(true)));
+    }
+}
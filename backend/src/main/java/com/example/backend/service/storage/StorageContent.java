@@ -0,0 +1,73 @@
+package com.example.backend.service.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 저장소에 쓸 내용
+ * newInputStream 은 호출할 때마다 처음부터 읽는 새 스트림을 반환해야 함 (재시도 / 파트 분할용)
+ */
+public interface StorageContent {
+
+    long size();
+
+    InputStream newInputStream() throws IOException;
+
+    /**
+     * 멀티파트 파트 단위 읽기 (offset 순서대로 요청됨)
+     * 기본 구현은 스트림 하나를 앞에서부터 이어 읽음 (파트마다 새 스트림을 열어 건너뛰면 O(n²))
+     * 복사 없이 잘라 줄 수 있는 구현은 override
+     */
+    default PartReader openParts() throws IOException {
+        InputStream inputStream = newInputStream();
+        return new PartReader() {
+            private long position;
+
+            @Override
+            public ByteBuffer read(long offset, int length) throws IOException {
+                if (offset < position) {
+                    throw new IOException("파트는 offset 순서대로 읽어야 합니다");
+                }
+                inputStream.skipNBytes(offset - position);
+                byte[] data = inputStream.readNBytes(length);
+                position = offset + data.length;
+                return ByteBuffer.wrap(data);
+            }
+
+            @Override
+            public void close() throws IOException {
+                inputStream.close();
+            }
+        };
+    }
+
+    /**
+     * offset 부터 length 바이트를 ByteBuffer 로 읽음, 사용 후 close
+     */
+    @FunctionalInterface
+    interface PartReader extends Closeable {
+        ByteBuffer read(long offset, int length) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    static StorageContent of(MultipartFile file) {
+        return new StorageContent() {
+            @Override
+            public long size() {
+                return file.getSize();
+            }
+
+            @Override
+            public InputStream newInputStream() throws IOException {
+                return file.getInputStream();
+            }
+        };
+    }
+}
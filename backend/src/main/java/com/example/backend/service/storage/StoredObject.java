@@ -0,0 +1,13 @@
+package com.example.backend.service.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 조회 결과 항목
+ */
+public record StoredObject(
+        String key,
+        long size,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,135 @@
+package com.example.backend.service.trending;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 상위 capacity 개를 유지하는 인덱스 최소 힙
+ * id -> 힙 위치 인덱스로 이미 들어 있는 항목의 점수 변경도 O(log N)
+ * 루트가 상위 N 개 중 가장 낮은 점수라 새 항목은 루트와만 비교
+ * 동기화는 호출하는 쪽에서 함
+ */
+final class TopNHeap {
+
+    private final int capacity;
+    private final long[] ids;
+    private final double[] scores;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    TopNHeap(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 점수 갱신, 상위 N 밖이던 항목은 루트보다 높을 때만 루트와 교체
+     */
+    void update(long id, double score) {
+        Integer position = positions.get(id);
+        if (position != null) {
+            double previous = scores[position];
+            scores[position] = score;
+            if (score > previous) {
+                siftDown(position);
+            } else {
+                siftUp(position);
+            }
+            return;
+        }
+
+        if (size < capacity) {
+            place(size, id, score);
+            size++;
+            siftUp(size - 1);
+        } else if (capacity > 0 && score > scores[0]) {
+            positions.remove(ids[0]);
+            place(0, id, score);
+            siftDown(0);
+        }
+    }
+
+    void remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+        size--;
+        if (position == size) {
+            return;
+        }
+        // 마지막 항목을 빈 자리로 옮긴 뒤 위 / 아래 중 맞는 쪽으로 이동
+        long moved = ids[size];
+        place(position, moved, scores[size]);
+        siftDown(position);
+        siftUp(positions.get(moved));
+    }
+
+    /**
+     * 모든 점수에 같은 배수를 곱함 (순서는 그대로라 힙 재구성 불필요)
+     */
+    void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+    }
+
+    /**
+     * 점수 높은 순서의 id
+     */
+    List<Long> sortedIds() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        return Arrays.stream(order).map(i -> ids[i]).toList();
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = position * 2 + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        double score = scores[a];
+        place(a, ids[b], scores[b]);
+        place(b, id, score);
+    }
+
+    private void place(int position, long id, double score) {
+        ids[position] = id;
+        scores[position] = score;
+        positions.put(id, position);
+    }
+}
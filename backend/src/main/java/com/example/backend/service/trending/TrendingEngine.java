@@ -0,0 +1,236 @@
+package com.example.backend.service.trending;
+
+import com.example.backend.domain.ViewTarget;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.ExhibitionLikesRepository;
+import com.example.backend.repository.OrderRepository;
+import com.example.backend.repository.PhotoLikesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 인기 순위 (사진 / 전시회)
+ * 점수 = Σ 가중치 × 2^(-(지금 - 이벤트 시각) / 반감기)
+ * 모든 항목이 같은 비율로 감쇠하므로 기준 시각 기준으로 2^((이벤트 시각 - 기준 시각) / 반감기) 를 곱해 더해 두면
+ * 시간이 지나도 순서가 바뀌지 않아 이벤트가 들어올 때만 상위 N 힙을 갱신하면 됨
+ * 값이 너무 커지지 않도록 주기적으로 기준 시각을 옮기고 전체에 같은 배수를 곱함
+ * 기동시 최근 좋아요 / 댓글 / 주문으로 초기화 (조회수는 기록 시각이 없어 재시작 후부터 반영)
+ * 좋아요 취소 / 댓글 삭제는 원래 이벤트 시각으로 감쇠된 기여분만큼 되돌림 (retract)
+ */
+@Slf4j
+@Component
+public class TrendingEngine {
+
+    // 기준 시각 이동시 점수가 이 값보다 작아진 항목은 제거
+    private static final double PRUNE_THRESHOLD = 0.01;
+
+    private final PhotoLikesRepository photoLikesRepository;
+    private final ExhibitionLikesRepository exhibitionLikesRepository;
+    private final CommentRepository commentRepository;
+    private final OrderRepository orderRepository;
+
+    private final double decayPerMillis;
+    private final Duration seedWindow;
+    private final Map<TrendingSignal, Double> weights = new EnumMap<>(TrendingSignal.class);
+    private final Map<ViewTarget, Ranking> rankings = new EnumMap<>(ViewTarget.class);
+
+    private long baseMillis = System.currentTimeMillis();
+    // 이 시각 이전 이벤트는 점수에 들어있지 않음 (초기화 범위 밖), 되돌리지 않음
+    private volatile long countedSinceMillis;
+
+    public TrendingEngine(PhotoLikesRepository photoLikesRepository,
+                          ExhibitionLikesRepository exhibitionLikesRepository,
+                          CommentRepository commentRepository,
+                          OrderRepository orderRepository,
+                          @Value("${trending.half-life-hours:24}") double halfLifeHours,
+                          @Value("${trending.seed-days:7}") int seedDays,
+                          @Value("${trending.top-n:1000}") int topN,
+                          @Value("${trending.weight.view:1}") double viewWeight,
+                          @Value("${trending.weight.like:4}") double likeWeight,
+                          @Value("${trending.weight.comment:3}") double commentWeight,
+                          @Value("${trending.weight.order:8}") double orderWeight) {
+        this.photoLikesRepository = photoLikesRepository;
+        this.exhibitionLikesRepository = exhibitionLikesRepository;
+        this.commentRepository = commentRepository;
+        this.orderRepository = orderRepository;
+        this.decayPerMillis = Math.log(2) / Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis();
+        this.seedWindow = Duration.ofDays(seedDays);
+        this.countedSinceMillis = baseMillis - seedWindow.toMillis();
+        weights.put(TrendingSignal.VIEW, viewWeight);
+        weights.put(TrendingSignal.LIKE, likeWeight);
+        weights.put(TrendingSignal.COMMENT, commentWeight);
+        weights.put(TrendingSignal.ORDER, orderWeight);
+        for (ViewTarget target : ViewTarget.values()) {
+            rankings.put(target, new Ranking(topN));
+        }
+    }
+
+    /**
+     * 이벤트 반영, 트랜잭션 안이면 커밋 후에 반영
+     */
+    public void record(ViewTarget target, Long id, TrendingSignal signal, int count) {
+        afterCommit(() -> apply(target, id, weights.get(signal) * count, System.currentTimeMillis()));
+    }
+
+    public void record(ViewTarget target, Long id, TrendingSignal signal) {
+        record(target, id, signal, 1);
+    }
+
+    /**
+     * 이벤트 취소 (좋아요 취소 / 댓글 삭제)
+     * occurredAt 에 기록된 이벤트가 지금까지 감쇠된 만큼만 빼서 다른 이벤트의 점수는 건드리지 않음
+     */
+    public void retract(ViewTarget target, Long id, TrendingSignal signal, LocalDateTime occurredAt) {
+        long eventMillis = toMillis(occurredAt);
+        afterCommit(() -> {
+            if (eventMillis >= countedSinceMillis) {
+                apply(target, id, -weights.get(signal), eventMillis);
+            }
+        });
+    }
+
+    /**
+     * 순위에서 제거 (삭제된 대상 / 공개 피드에 나오지 않는 사진)
+     */
+    public void remove(ViewTarget target, Long id) {
+        afterCommit(() -> {
+            synchronized (this) {
+                Ranking ranking = rankings.get(target);
+                ranking.scores.remove(id);
+                ranking.heap.remove(id);
+            }
+        });
+    }
+
+    /**
+     * 인기 순서의 id (최대 trending.top-n 개)
+     */
+    public synchronized List<Long> top(ViewTarget target) {
+        return rankings.get(target).heap.sortedIds();
+    }
+
+    /**
+     * 기준 시각을 지금으로 옮기고 작아진 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${trending.rebase-interval-ms:3600000}")
+    public synchronized void rebase() {
+        long now = System.currentTimeMillis();
+        double factor = Math.exp(-decayPerMillis * (now - baseMillis));
+        baseMillis = now;
+
+        for (Ranking ranking : rankings.values()) {
+            ranking.heap.scale(factor);
+            Iterator<Map.Entry<Long, Double>> iterator = ranking.scores.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Double> entry = iterator.next();
+                double scaled = entry.getValue() * factor;
+                if (scaled < PRUNE_THRESHOLD) {
+                    ranking.heap.remove(entry.getKey());
+                    iterator.remove();
+                } else {
+                    entry.setValue(scaled);
+                }
+            }
+        }
+    }
+
+    /**
+     * 최근 seed-days 동안의 좋아요 / 댓글 / 주문으로 초기 점수 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minus(seedWindow);
+        countedSinceMillis = toMillis(since);
+        try {
+            for (Object[] row : photoLikesRepository.findRecentLikes(since)) {
+                apply(ViewTarget.PHOTO, (Long) row[0], weights.get(TrendingSignal.LIKE), toMillis((LocalDateTime) row[1]));
+            }
+            for (Object[] row : exhibitionLikesRepository.findRecentLikes(since)) {
+                apply(ViewTarget.EXHIBITION, (Long) row[0], weights.get(TrendingSignal.LIKE), toMillis((LocalDateTime) row[1]));
+            }
+            for (Object[] row : commentRepository.findRecentTargets(since)) {
+                ViewTarget target = row[0] != null ? ViewTarget.PHOTO : ViewTarget.EXHIBITION;
+                Long id = row[0] != null ? (Long) row[0] : (Long) row[1];
+                if (id != null) {
+                    apply(target, id, weights.get(TrendingSignal.COMMENT), toMillis((LocalDateTime) row[2]));
+                }
+            }
+            for (Object[] row : orderRepository.findRecentOrderedPhotos(since)) {
+                int quantity = row[1] == null ? 1 : (Integer) row[1];
+                apply(ViewTarget.PHOTO, (Long) row[0], weights.get(TrendingSignal.ORDER) * quantity, toMillis((LocalDateTime) row[2]));
+            }
+            log.info("인기 순위 초기화 완료");
+        } catch (RuntimeException e) {
+            log.error("인기 순위 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 실행 (롤백된 좋아요 / 주문은 제외)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * 한 번에 힙 하나의 O(log N) 갱신이라 전체를 한 락으로 보호 (기준 시각 이동과 직렬화)
+     * 되돌린 뒤 0 이하가 된 항목은 제거
+     */
+    private synchronized void apply(ViewTarget target, Long id, double weight, long eventMillis) {
+        Ranking ranking = rankings.get(target);
+        Double current = ranking.scores.get(id);
+        if (current == null && weight < 0) {
+            return;
+        }
+
+        double score = (current == null ? 0 : current) + weight * Math.exp(decayPerMillis * (eventMillis - baseMillis));
+        if (score <= 0) {
+            ranking.scores.remove(id);
+            ranking.heap.remove(id);
+            return;
+        }
+        ranking.scores.put(id, score);
+        ranking.heap.update(id, score);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? System.currentTimeMillis() : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 대상 종류 하나의 전체 점수 + 상위 N 힙
+     * 점수가 줄어든 상위 항목 (좋아요 취소) 은 상위 N 밖 항목이 다음 이벤트를 받을 때 교체됨
+     */
+    private static final class Ranking {
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final TopNHeap heap;
+
+        private Ranking(int topN) {
+            this.heap = new TopNHeap(topN);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.backend.service.trending;
+
+/**
+ * 인기 점수에 반영되는 이벤트 종류
+ * 좋아요 취소 / 댓글 삭제는 TrendingEngine.retract 로 LIKE / COMMENT 를 되돌림
+ */
+public enum TrendingSignal {
+    VIEW, LIKE, COMMENT, ORDER
+}
@@ -4,7 +4,6 @@ import com.example.backend.domain.Photo;
 import com.example.backend.domain.Users;
 import com.example.backend.dto.response.PhotoCardResponseDTO;
 import com.example.backend.dto.response.UserPageResponseDTO;
-import com.example.backend.repository.PhotoLikesRepository;
 import com.example.backend.repository.PhotoRepository;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +19,6 @@ public class UserPageService {
 
     private final UserRepository userRepository;
     private final PhotoRepository photoRepository;
-    private final PhotoLikesRepository photoLikesRepository;
 
     @Transactional(readOnly = true)
     public UserPageResponseDTO getUserPage(Long userId) {
@@ -36,7 +34,7 @@ public class UserPageService {
         List<PhotoCardResponseDTO> photoCards = photos.stream()
                 .map(photo -> PhotoCardResponseDTO.fromEntity(
                         photo,
-                        photoLikesRepository.countByPhotoPhotoId(photo.getPhotoId())
+                        photo.getLikeCount()
                 ))
                 .toList();
 
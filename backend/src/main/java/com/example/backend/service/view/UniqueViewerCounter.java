@@ -0,0 +1,124 @@
+package com.example.backend.service.view;
+
+import com.example.backend.domain.ViewSketch;
+import com.example.backend.domain.ViewTarget;
+import com.example.backend.repository.ViewSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사진 / 전시회 순 방문자 추정
+ * 조회마다 메모리 HyperLogLog 에 방문자 해시를 넣고
+ * 주기적으로 저장된 스케치 (view_sketches) 와 병합한 뒤 추정값을 unique_viewer_count 에 반영
+ * 새로고침 / 반복 조회는 같은 해시라 추정값이 늘지 않음
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private final ViewSketchRepository viewSketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 마지막 flush 이후 새로 들어온 방문자 (대상 id -> 스케치)
+    private final Map<ViewTarget, ConcurrentHashMap<Long, HyperLogLog>> pending = Map.of(
+            ViewTarget.PHOTO, new ConcurrentHashMap<>(),
+            ViewTarget.EXHIBITION, new ConcurrentHashMap<>());
+
+    public UniqueViewerCounter(ViewSketchRepository viewSketchRepository,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${view.unique.batch-size:200}") int batchSize) {
+        this.viewSketchRepository = viewSketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void recordView(ViewTarget targetType, Long targetId, long viewerHash) {
+        // compute 는 flush 의 remove 와 직렬화되므로 빠지는 순간 들어온 방문자도 잃지 않음
+        pending.get(targetType).compute(targetId, (id, sketch) -> {
+            HyperLogLog target = sketch == null ? new HyperLogLog() : sketch;
+            target.offer(viewerHash);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${view.unique.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        pending.keySet().forEach(this::flush);
+    }
+
+    private void flush(ViewTarget targetType) {
+        ConcurrentHashMap<Long, HyperLogLog> sketches = pending.get(targetType);
+
+        // id 순서로 꺼내서 잠금 순서를 맞춤
+        TreeMap<Long, HyperLogLog> drained = new TreeMap<>();
+        for (Long id : sketches.keySet()) {
+            HyperLogLog sketch = sketches.remove(id);
+            if (sketch != null) {
+                drained.put(id, sketch);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(targetType, batch, drained));
+            } catch (RuntimeException e) {
+                // 병합은 여러 번 해도 결과가 같으므로 다시 모아서 다음 flush 에서 재시도
+                log.warn("순 방문자 스케치 저장 실패 ({} {}건): {}", targetType, batch.size(), e.getMessage());
+                for (Long id : batch) {
+                    sketches.merge(id, drained.get(id), (current, failed) -> {
+                        current.merge(failed);
+                        return current;
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장된 스케치를 잠그고 병합 후 저장, 추정값을 대상 테이블에 반영
+     */
+    private void persist(ViewTarget targetType, List<Long> ids, Map<Long, HyperLogLog> deltas) {
+        Map<Long, ViewSketch> stored = new TreeMap<>();
+        for (ViewSketch sketch : viewSketchRepository.findByTargetTypeAndTargetIdInOrderByTargetId(targetType, ids)) {
+            stored.put(sketch.getTargetId(), sketch);
+        }
+
+        List<ViewSketch> created = new ArrayList<>();
+        List<Object[]> estimates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            HyperLogLog merged = deltas.get(id);
+            ViewSketch sketch = stored.get(id);
+            if (sketch == null) {
+                created.add(new ViewSketch(targetType, id, merged.toBytes()));
+            } else {
+                merged.merge(HyperLogLog.fromBytes(sketch.getRegisters()));
+                sketch.updateRegisters(merged.toBytes());
+            }
+            estimates.add(new Object[]{merged.estimate(), id});
+        }
+        viewSketchRepository.saveAll(created);
+
+        String sql = targetType == ViewTarget.PHOTO
+                ? "UPDATE photos SET unique_viewer_count = ? WHERE photo_id = ?"
+                : "UPDATE exhibitions SET unique_viewer_count = ? WHERE exhibition_id = ?";
+        jdbcTemplate.batchUpdate(sql, estimates);
+    }
+}
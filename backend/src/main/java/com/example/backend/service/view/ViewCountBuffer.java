@@ -0,0 +1,139 @@
+package com.example.backend.service.view;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사진 / 전시회 조회수 write-behind 버퍼
+ * 조회할 때마다 행을 갱신하지 않고 id 별 LongAdder 에 모았다가
+ * 주기적으로 UPDATE ... SET count = count + ? 를 배치로 실행
+ * DB 조회수는 최대 flush 주기만큼 늦게 반영됨
+ * 배치 하나는 한 트랜잭션이라 실패하면 전부 롤백되고 전부 다시 모음 (일부만 반영된 채 두 번 더하지 않음)
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String PHOTO_UPDATE =
+            "UPDATE photos SET photo_view_count = photo_view_count + ? WHERE photo_id = ?";
+    private static final String EXHIBITION_UPDATE =
+            "UPDATE exhibitions SET exhibition_view_count = exhibition_view_count + ? WHERE exhibition_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counters photoViews;
+    private final Counters exhibitionViews;
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${view.counter.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.photoViews = new Counters(PHOTO_UPDATE, Counter.builder("view.counter.flushed").tag("type", "photo")
+                .description("DB 에 반영한 조회수")
+                .register(meterRegistry));
+        this.exhibitionViews = new Counters(EXHIBITION_UPDATE, Counter.builder("view.counter.flushed").tag("type", "exhibition")
+                .description("DB 에 반영한 조회수")
+                .register(meterRegistry));
+    }
+
+    public void recordPhotoView(Long photoId) {
+        photoViews.increment(photoId);
+    }
+
+    public void recordExhibitionView(Long exhibitionId) {
+        exhibitionViews.increment(exhibitionId);
+    }
+
+    /**
+     * 모인 조회수를 DB 에 반영 (view.counter.flush-interval-ms 가 최대 지연)
+     * 종료 시에도 한 번 반영
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${view.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        photoViews.flush();
+        exhibitionViews.flush();
+    }
+
+    /**
+     * 대상 테이블 하나의 id -> 누적 조회수
+     */
+    private final class Counters {
+        private final String updateSql;
+        private final Counter flushed;
+        private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+        // 직전 flush 에서 맵에서 뺀 유휴 항목
+        // 빼기 직전에 항목을 얻은 요청이 늦게 더한 값도 다음 flush 에서 반영
+        private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+        private Counters(String updateSql, Counter flushed) {
+            this.updateSql = updateSql;
+            this.flushed = flushed;
+        }
+
+        private void increment(Long id) {
+            pending.computeIfAbsent(id, key -> new LongAdder()).increment();
+        }
+
+        private void flush() {
+            List<Object[]> updates = new ArrayList<>();
+            List<Map.Entry<Long, LongAdder>> idle = new ArrayList<>();
+
+            for (Map.Entry<Long, LongAdder> entry : retired) {
+                long count = entry.getValue().sumThenReset();
+                if (count > 0) {
+                    updates.add(new Object[]{count, entry.getKey()});
+                }
+            }
+
+            for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                long count = entry.getValue().sumThenReset();
+                if (count > 0) {
+                    updates.add(new Object[]{count, entry.getKey()});
+                } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                    // 한 주기 동안 조회가 없던 항목은 맵에서 제거 (id 수만큼 계속 커지지 않도록)
+                    idle.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+            retired = idle;
+
+            if (updates.isEmpty()) {
+                return;
+            }
+
+            // 여러 노드가 같은 행을 갱신할 때 교착이 생기지 않도록 id 순서로 잠금
+            updates.sort((a, b) -> Long.compare((Long) a[1], (Long) b[1]));
+            for (int from = 0; from < updates.size(); from += batchSize) {
+                List<Object[]> batch = updates.subList(from, Math.min(from + batchSize, updates.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(updateSql, batch));
+                    flushed.increment(batch.stream().mapToLong(row -> (Long) row[0]).sum());
+                } catch (RuntimeException e) {
+                    // 배치 전체가 롤백됐으므로 모든 값을 다시 모아서 다음 flush 에서 재시도
+                    log.warn("조회수 반영 실패 ({}건): {}", batch.size(), e.getMessage());
+                    for (Object[] row : batch) {
+                        pending.computeIfAbsent((Long) row[1], key -> new LongAdder()).add((Long) row[0]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.backend.service.view;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 현재 요청의 방문자 식별 해시 (순 방문자 스케치용)
+ * 로그인 사용자는 계정 (공개 조회 경로도 JWTFilter 가 토큰을 읽음), 비로그인은 IP + User-Agent 로 식별
+ * IP 는 getRemoteAddr 그대로 사용하므로 신뢰할 수 있는 리버스 프록시 뒤에 배포할 때만
+ * server.forward-headers-strategy 를 native (Tomcat RemoteIpValve, 내부 주소 프록시만 신뢰) 또는 framework 로 지정
+ * 지정하지 않으면 프록시 주소가 그대로 쓰이고, 클라이언트가 보낸 X-Forwarded-For 는 무시됨
+ * 원래 값은 저장하지 않고 salt 를 섞은 SHA-256 앞 8바이트만 사용
+ * salt 는 노드마다 같아야 같은 방문자가 한 명으로 병합됨
+ */
+@Component
+public class ViewerFingerprint {
+
+    private final byte[] salt;
+
+    public ViewerFingerprint(@Value("${view.unique.salt:photoexpo-viewer}") String salt) {
+        this.salt = salt.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public long current() {
+        return hash(identity());
+    }
+
+    private String identity() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return "anon:" + request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+        }
+        return "anon:unknown";
+    }
+
+    private long hash(String identity) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return ByteBuffer.wrap(digest.digest(identity.getBytes(StandardCharsets.UTF_8))).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.backend.service.aws;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3MultipartUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    @Test
+    void uploadsPartsAndAssemblesThemInOrder() {
+        InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, 1, 5 * MB, 2, 3, 1);
+        byte[] data = randomBytes(12 * MB + 123);
+
+        uploader.upload("bucket", "large.jpg", "image/jpeg", ObjectCannedACL.PUBLIC_READ, data.length, partSource(data));
+
+        assertThat(s3.objects.get("large.jpg")).isEqualTo(data);
+        assertThat(s3.partCalls(1)).isEqualTo(1);
+        assertThat(s3.partCalls(2)).isEqualTo(1);
+        assertThat(s3.partCalls(3)).isEqualTo(1);
+        assertThat(s3.aborted).isEmpty();
+    }
+
+    @Test
+    void retriesOnlyTheFailedPart() {
+        InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient();
+        s3.failPart(2, 1);
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, 1, 5 * MB, 4, 3, 1);
+        byte[] data = randomBytes(11 * MB);
+
+        uploader.upload("bucket", "retry.jpg", "image/jpeg", ObjectCannedACL.PUBLIC_READ, data.length, partSource(data));
+
+        assertThat(s3.objects.get("retry.jpg")).isEqualTo(data);
+        assertThat(s3.partCalls(1)).isEqualTo(1);
+        assertThat(s3.partCalls(2)).isEqualTo(2);
+        assertThat(s3.partCalls(3)).isEqualTo(1);
+    }
+
+    @Test
+    void abortsWhenAPartKeepsFailing() {
+        InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient();
+        s3.failPart(1, Integer.MAX_VALUE);
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, 1, 5 * MB, 1, 3, 1);
+        byte[] data = randomBytes(11 * MB);
+
+        assertThatThrownBy(() -> uploader.upload("bucket", "broken.jpg", "image/jpeg", ObjectCannedACL.PUBLIC_READ, data.length, partSource(data)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(s3.partCalls(1)).isEqualTo(3);
+        assertThat(s3.aborted).hasSize(1);
+        assertThat(s3.objects).doesNotContainKey("broken.jpg");
+    }
+
+    private static S3MultipartUploader.PartSource partSource(byte[] data) {
+        return (offset, length) -> ByteBuffer.wrap(data, (int) offset, length).slice();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 멀티파트 API 만 구현한 인메모리 S3
+     */
+    private static class InMemoryS3AsyncClient implements S3AsyncClient {
+
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Set<String> aborted = ConcurrentHashMap.newKeySet();
+        private final Map<Integer, AtomicInteger> failuresLeft = new ConcurrentHashMap<>();
+        private final Map<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        void failPart(int partNumber, int times) {
+            failuresLeft.put(partNumber, new AtomicInteger(times));
+        }
+
+        int partCalls(int partNumber) {
+            return calls.getOrDefault(partNumber, new AtomicInteger()).get();
+        }
+
+        @Override
+        public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new ConcurrentHashMap<>());
+            return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId(uploadId).build());
+        }
+
+        @Override
+        public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+            int partNumber = request.partNumber();
+            calls.computeIfAbsent(partNumber, key -> new AtomicInteger()).incrementAndGet();
+
+            AtomicInteger failures = failuresLeft.get(partNumber);
+            if (failures != null && failures.getAndDecrement() > 0) {
+                return CompletableFuture.failedFuture(S3Exception.builder().message("injected failure").statusCode(500).build());
+            }
+
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            return body.subscribe(buffer -> {
+                        byte[] bytes = new byte[buffer.remaining()];
+                        buffer.get(bytes);
+                        content.write(bytes, 0, bytes.length);
+                    })
+                    .thenApply(done -> {
+                        uploads.get(request.uploadId()).put(partNumber, content.toByteArray());
+                        return UploadPartResponse.builder().eTag("etag-" + partNumber).build();
+                    });
+        }
+
+        @Override
+        public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                object.writeBytes(parts.get(part.partNumber()));
+            }
+            objects.put(request.key(), object.toByteArray());
+            return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build());
+        }
+
+        @Override
+        public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            aborted.add(request.uploadId());
+            return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
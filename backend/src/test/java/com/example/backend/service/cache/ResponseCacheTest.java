@@ -0,0 +1,110 @@
+package com.example.backend.service.cache;
+
+import com.example.backend.domain.ViewTarget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sameVersionReusesTheSerializedBytes() {
+        ResponseCache cache = cache(1024);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Object> loader = () -> {
+            loads.incrementAndGet();
+            return Map.of("title", "사진");
+        };
+
+        byte[] first = cache.get(ViewTarget.PHOTO, 1L, "v1", loader);
+        byte[] second = cache.get(ViewTarget.PHOTO, 1L, "v1", loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"사진\"}");
+        assertThat(counter("hit", "photo")).isEqualTo(1);
+        assertThat(counter("miss", "photo")).isEqualTo(1);
+        assertThat(meterRegistry.get("response.cache.bytes.saved").tag("type", "photo").counter().count())
+                .isEqualTo(first.length);
+    }
+
+    @Test
+    void changedVersionReplacesTheEntry() {
+        ResponseCache cache = cache(1024);
+
+        cache.get(ViewTarget.PHOTO, 1L, "v1", () -> "old");
+        byte[] updated = cache.get(ViewTarget.PHOTO, 1L, "v2", () -> "new");
+        byte[] again = cache.get(ViewTarget.PHOTO, 1L, "v2", () -> "unexpected");
+
+        assertThat(new String(updated, StandardCharsets.UTF_8)).isEqualTo("\"new\"");
+        assertThat(again).isSameAs(updated);
+        assertThat(storedBytes()).isEqualTo(updated.length);
+    }
+
+    @Test
+    void targetsWithTheSameIdAreSeparate() {
+        ResponseCache cache = cache(1024);
+
+        cache.get(ViewTarget.PHOTO, 7L, "v1", () -> "photo");
+        byte[] exhibition = cache.get(ViewTarget.EXHIBITION, 7L, "v1", () -> "exhibition");
+
+        assertThat(new String(exhibition, StandardCharsets.UTF_8)).isEqualTo("\"exhibition\"");
+        assertThat(counter("miss", "exhibition")).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedOverTheByteLimit() {
+        // "xxxxxxxx" 는 따옴표 포함 10바이트, 3개까지만 들어감
+        ResponseCache cache = cache(30);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Object> loader = () -> {
+            loads.incrementAndGet();
+            return "xxxxxxxx";
+        };
+
+        cache.get(ViewTarget.PHOTO, 1L, "v", loader);
+        cache.get(ViewTarget.PHOTO, 2L, "v", loader);
+        cache.get(ViewTarget.PHOTO, 3L, "v", loader);
+        cache.get(ViewTarget.PHOTO, 1L, "v", loader);
+        cache.get(ViewTarget.PHOTO, 4L, "v", loader);
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(storedBytes()).isEqualTo(30);
+
+        // 2 가 가장 오래 안 쓴 항목이라 제거되고 1 은 남음
+        cache.get(ViewTarget.PHOTO, 1L, "v", loader);
+        assertThat(loads.get()).isEqualTo(4);
+        cache.get(ViewTarget.PHOTO, 2L, "v", loader);
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    void bodyLargerThanTheLimitIsServedButNotKept() {
+        ResponseCache cache = cache(4);
+
+        byte[] body = cache.get(ViewTarget.PHOTO, 1L, "v", () -> "too large");
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("\"too large\"");
+        assertThat(storedBytes()).isZero();
+    }
+
+    private ResponseCache cache(long maxBytes) {
+        return new ResponseCache(new ObjectMapper(), meterRegistry, maxBytes);
+    }
+
+    private double counter(String result, String type) {
+        return meterRegistry.get("response.cache.requests").tag("type", type).tag("result", result).counter().count();
+    }
+
+    private double storedBytes() {
+        return meterRegistry.get("response.cache.stored.bytes").gauge().value();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.service.counter;
+
+import com.example.backend.domain.Comment;
+import com.example.backend.domain.Exhibition;
+import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoLikes;
+import com.example.backend.domain.UserRoleType;
+import com.example.backend.domain.Users;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.ExhibitionRepository;
+import com.example.backend.repository.PhotoLikesRepository;
+import com.example.backend.repository.PhotoRepository;
+import com.example.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 어긋난 like_count / comment_count 가 실제 행 수로 돌아오는지 DB 에서 확인
+ */
+@SpringBootTest
+class EngagementCountReconcilerTest {
+
+    @Autowired
+    private EngagementCountReconciler reconciler;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private ExhibitionRepository exhibitionRepository;
+    @Autowired
+    private PhotoLikesRepository photoLikesRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Users user;
+    private Photo photo;
+    private Exhibition exhibition;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(Users.builder()
+                .email("counter-reconcile-test@example.com")
+                .password("password")
+                .username("counter-reconcile-test")
+                .nickname("counter-reconcile-test")
+                .isLock(false)
+                .isSocial(false)
+                .userRoleType(UserRoleType.USER)
+                .build());
+        photo = photoRepository.save(Photo.builder()
+                .user(user)
+                .title("counted photo")
+                .photoViewCount(0L)
+                .build());
+        exhibition = exhibitionRepository.save(Exhibition.builder()
+                .user(user)
+                .title("counted exhibition")
+                .exhibitionViewCount(0L)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE user_id = ?", user.getUserId());
+        jdbcTemplate.update("DELETE FROM photo_likes WHERE user_id = ?", user.getUserId());
+        jdbcTemplate.update("DELETE FROM photos WHERE photo_id = ?", photo.getPhotoId());
+        jdbcTemplate.update("DELETE FROM exhibitions WHERE exhibition_id = ?", exhibition.getExhibitionId());
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", user.getUserId());
+    }
+
+    @Test
+    void driftedCountersAreRecountedFromTheRows() {
+        photoLikesRepository.save(PhotoLikes.builder().photo(photo).user(user).build());
+        commentRepository.save(Comment.builder().user(user).photo(photo).content("남은 댓글").build());
+        commentRepository.save(Comment.builder().user(user).photo(photo).content("지운 댓글").isDeleted(true).build());
+        commentRepository.save(Comment.builder().user(user).exhibition(exhibition).content("전시회 댓글").build());
+
+        // ± 1 갱신이 어긋난 상태
+        jdbcTemplate.update("UPDATE photos SET like_count = 5, comment_count = 9 WHERE photo_id = ?", photo.getPhotoId());
+        jdbcTemplate.update("UPDATE exhibitions SET like_count = 3, comment_count = 0 WHERE exhibition_id = ?",
+                exhibition.getExhibitionId());
+
+        reconciler.reconcile();
+
+        assertThat(counts("photos", "photo_id", photo.getPhotoId())).containsExactly(1L, 1L);
+        assertThat(counts("exhibitions", "exhibition_id", exhibition.getExhibitionId())).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void correctCountersAreNotRewritten() {
+        photoLikesRepository.save(PhotoLikes.builder().photo(photo).user(user).build());
+        jdbcTemplate.update("UPDATE photos SET like_count = 1 WHERE photo_id = ?", photo.getPhotoId());
+
+        reconciler.reconcile();
+        double repaired = repairedPhotos();
+        reconciler.reconcile();
+
+        // 이미 맞는 행은 UPDATE 대상에서 빠짐
+        assertThat(repairedPhotos()).isEqualTo(repaired);
+        assertThat(counts("photos", "photo_id", photo.getPhotoId())).containsExactly(1L, 0L);
+    }
+
+    private double repairedPhotos() {
+        return meterRegistry.get("counter.reconcile.repaired").tag("type", "photo").counter().count();
+    }
+
+    private Long[] counts(String table, String idColumn, Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count, comment_count FROM " + table + " WHERE " + idColumn + " = ?",
+                (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getLong(2)}, id);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.backend.service.exhibition;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExhibitionCursorTest {
+
+    @Test
+    void roundTrips() {
+        ExhibitionCursor cursor = new ExhibitionCursor(LocalDateTime.of(2025, 6, 30, 23, 59, 59, 999_999_000), 15L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(ExhibitionCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertInvalid("%%%");
+        assertInvalid(raw("2025-06-30T23:59:59"));
+        assertInvalid(raw("2025-06-30T23:59:59|15|1"));
+        assertInvalid(raw("tomorrow|15"));
+        assertInvalid(raw("2025-06-30T23:59:59|fifteen"));
+        assertInvalid("");
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> ExhibitionCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
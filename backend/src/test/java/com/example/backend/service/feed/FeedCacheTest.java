@@ -0,0 +1,194 @@
+package com.example.backend.service.feed;
+
+import com.example.backend.domain.ViewTarget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+
+    private static final String SCOPE = "newest:30";
+
+    @Test
+    void firstPageIsLoadedOnce() {
+        FeedCache cache = cache(60_000, 3, 16);
+        CountingLoader loader = new CountingLoader("first", "c1");
+
+        FeedCache.Page first = cache.get(ViewTarget.PHOTO, SCOPE, null, loader);
+        FeedCache.Page second = cache.get(ViewTarget.PHOTO, SCOPE, "", loader);
+
+        assertThat(loader.calls()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(second.body(), StandardCharsets.UTF_8)).isEqualTo("\"first\"");
+        assertThat(second.nextCursor()).isEqualTo("c1");
+    }
+
+    @Test
+    void followsIssuedCursorsUpToTheConfiguredDepth() {
+        FeedCache cache = cache(60_000, 2, 16);
+        cache.get(ViewTarget.PHOTO, SCOPE, null, new CountingLoader("page0", "c1"));
+
+        CountingLoader second = new CountingLoader("page1", "c2");
+        cache.get(ViewTarget.PHOTO, SCOPE, "c1", second);
+        cache.get(ViewTarget.PHOTO, SCOPE, "c1", second);
+        assertThat(second.calls()).isEqualTo(1);
+
+        // pages = 2 이므로 세번째 페이지는 캐시하지 않음
+        CountingLoader third = new CountingLoader("page2", "c3");
+        cache.get(ViewTarget.PHOTO, SCOPE, "c2", third);
+        cache.get(ViewTarget.PHOTO, SCOPE, "c2", third);
+        assertThat(third.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void cursorsNotIssuedByACachedPageAreNotCached() {
+        FeedCache cache = cache(60_000, 3, 16);
+        CountingLoader loader = new CountingLoader("page", null);
+
+        cache.get(ViewTarget.PHOTO, SCOPE, "forged", loader);
+        cache.get(ViewTarget.PHOTO, SCOPE, "forged", loader);
+
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void feedChangeClearsOnlyThatFeed() {
+        FeedCache cache = cache(60_000, 3, 16);
+        CountingLoader photos = new CountingLoader("photos", "c1");
+        CountingLoader exhibitions = new CountingLoader("exhibitions", "e1");
+        cache.get(ViewTarget.PHOTO, SCOPE, null, photos);
+        cache.get(ViewTarget.EXHIBITION, SCOPE, null, exhibitions);
+
+        cache.onFeedChanged(new FeedChangedEvent(ViewTarget.PHOTO));
+        cache.get(ViewTarget.PHOTO, SCOPE, null, photos);
+        cache.get(ViewTarget.EXHIBITION, SCOPE, null, exhibitions);
+
+        assertThat(photos.calls()).isEqualTo(2);
+        assertThat(exhibitions.calls()).isEqualTo(1);
+        // 비우기 전에 발급된 다음 커서도 더 이상 캐시 대상이 아님
+        CountingLoader stale = new CountingLoader("stale", null);
+        cache.onFeedChanged(new FeedChangedEvent(ViewTarget.PHOTO));
+        cache.get(ViewTarget.PHOTO, SCOPE, "c1", stale);
+        cache.get(ViewTarget.PHOTO, SCOPE, "c1", stale);
+        assertThat(stale.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void pageBuiltAcrossAnInvalidationIsNotStored() {
+        FeedCache cache = cache(60_000, 3, 16);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<FeedCache.Page> invalidatingLoader = () -> {
+            // 만드는 도중 변경이 커밋됨
+            if (calls.incrementAndGet() == 1) {
+                cache.onFeedChanged(new FeedChangedEvent(ViewTarget.PHOTO));
+            }
+            return cache.serialize("page", null);
+        };
+
+        cache.get(ViewTarget.PHOTO, SCOPE, null, invalidatingLoader);
+        cache.get(ViewTarget.PHOTO, SCOPE, null, invalidatingLoader);
+        cache.get(ViewTarget.PHOTO, SCOPE, null, invalidatingLoader);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntriesAreRebuilt() {
+        FeedCache cache = cache(0, 3, 16);
+        CountingLoader loader = new CountingLoader("page", null);
+
+        cache.get(ViewTarget.PHOTO, SCOPE, null, loader);
+        cache.get(ViewTarget.PHOTO, SCOPE, null, loader);
+
+        assertThat(loader.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedScopeIsEvicted() {
+        FeedCache cache = cache(60_000, 3, 2);
+        CountingLoader a = new CountingLoader("a", null);
+        CountingLoader b = new CountingLoader("b", null);
+        CountingLoader c = new CountingLoader("c", null);
+
+        cache.get(ViewTarget.PHOTO, "a", null, a);
+        cache.get(ViewTarget.PHOTO, "b", null, b);
+        cache.get(ViewTarget.PHOTO, "a", null, a);
+        cache.get(ViewTarget.PHOTO, "c", null, c);
+        cache.get(ViewTarget.PHOTO, "a", null, a);
+        cache.get(ViewTarget.PHOTO, "b", null, b);
+
+        assertThat(a.calls()).isEqualTo(1);
+        assertThat(b.calls()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        FeedCache cache = cache(60_000, 3, 16);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<FeedCache.Page> slowLoader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return cache.serialize(List.of(1, 2, 3), "c1");
+        };
+
+        CompletableFuture<FeedCache.Page> first =
+                CompletableFuture.supplyAsync(() -> cache.get(ViewTarget.PHOTO, SCOPE, null, slowLoader));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<FeedCache.Page> second =
+                CompletableFuture.supplyAsync(() -> cache.get(ViewTarget.PHOTO, SCOPE, null, slowLoader));
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private static FeedCache cache(long ttlMillis, int pages, int maxEntries) {
+        return new FeedCache(new ObjectMapper(), new SimpleMeterRegistry(), ttlMillis, pages, maxEntries);
+    }
+
+    /**
+     * 호출 횟수를 세는 loader (매번 같은 본문 / 다음 커서)
+     */
+    private static final class CountingLoader implements Supplier<FeedCache.Page> {
+        private final String body;
+        private final String nextCursor;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        private CountingLoader(String body, String nextCursor) {
+            this.body = body;
+            this.nextCursor = nextCursor;
+        }
+
+        @Override
+        public FeedCache.Page get() {
+            calls.incrementAndGet();
+            try {
+                return new FeedCache.Page(objectMapper.writeValueAsBytes(body), nextCursor);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.service.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlurHashTest {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    @Test
+    void lengthAndSizeFlagFollowTheComponentCount() {
+        BufferedImage image = gradient(32, 24);
+
+        String hash = BlurHash.encode(image, 4, 3);
+
+        // 크기 1 + 최댓값 1 + DC 4 + AC 성분 (4 x 3 - 1) x 2
+        assertThat(hash).hasSize(6 + 11 * 2);
+        assertThat(decode83(hash, 0, 1)).isEqualTo((4 - 1) + (3 - 1) * 9);
+        assertThat(hash.chars()).allMatch(c -> BASE83.indexOf(c) >= 0);
+    }
+
+    @Test
+    void averageColorIsEncodedExactly() {
+        String hash = BlurHash.encode(solid(16, 16, 0xC86432), 4, 3);
+
+        assertThat(decode83(hash, 2, 4)).isEqualTo(0xC86432);
+    }
+
+    @Test
+    void singleComponentEncodesOnlyTheAverageColor() {
+        String hash = BlurHash.encode(solid(4, 4, 0x102030), 1, 1);
+
+        assertThat(hash).isEqualTo("00" + encode83(0x102030, 4));
+    }
+
+    @Test
+    void horizontalGradientShowsUpInTheFirstHorizontalComponent() {
+        String hash = BlurHash.encode(gradient(32, 32), 2, 2);
+
+        int[] horizontal = decodeAc(decode83(hash, 6, 2));
+        int[] vertical = decodeAc(decode83(hash, 8, 2));
+
+        // 왼쪽이 어둡고 오른쪽이 밝으면 cos(πx/w) 성분은 음수 (9 미만) 이고 세로 성분보다 0 (9) 에서 멀리 떨어짐
+        // 흑백이라 세 채널 값이 같음
+        assertThat(horizontal).containsOnly(horizontal[0]);
+        assertThat(vertical).containsOnly(vertical[0]);
+        assertThat(horizontal[0]).isLessThan(9);
+        assertThat(9 - horizontal[0]).isGreaterThan(Math.abs(vertical[0] - 9));
+    }
+
+    @Test
+    void sameImageGivesTheSameHash() {
+        assertThat(BlurHash.encode(gradient(20, 10), 4, 3)).isEqualTo(BlurHash.encode(gradient(20, 10), 4, 3));
+        assertThat(BlurHash.encode(gradient(20, 10), 4, 3)).isNotEqualTo(BlurHash.encode(solid(20, 10, 0x808080), 4, 3));
+    }
+
+    private static BufferedImage solid(int width, int height, int rgb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * 왼쪽 검정 -> 오른쪽 흰색 (세로 방향으로는 같은 값)
+     */
+    private static BufferedImage gradient(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int gray = x * 255 / (width - 1);
+                image.setRGB(x, y, gray << 16 | gray << 8 | gray);
+            }
+        }
+        return image;
+    }
+
+    private static int[] decodeAc(int value) {
+        return new int[]{value / (19 * 19), value / 19 % 19, value % 19};
+    }
+
+    private static int decode83(String hash, int from, int length) {
+        int value = 0;
+        for (int i = from; i < from + length; i++) {
+            value = value * 83 + BASE83.indexOf(hash.charAt(i));
+        }
+        return value;
+    }
+
+    private static String encode83(int value, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = length - 1; i >= 0; i--) {
+            builder.append(BASE83.charAt(value / (int) Math.pow(83, i) % 83));
+        }
+        return builder.toString();
+    }
+}
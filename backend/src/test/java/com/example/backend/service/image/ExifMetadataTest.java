@@ -0,0 +1,176 @@
+package com.example.backend.service.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifMetadataTest {
+
+    @Test
+    void readsBigEndianExif() throws IOException {
+        ExifMetadata exif = readExif(exifSegment(ByteOrder.BIG_ENDIAN, 6, "2024:05:01 10:20:30"));
+
+        assertThat(exif.orientation()).isEqualTo(6);
+        assertThat(exif.cameraMake()).isEqualTo("Canon");
+        assertThat(exif.cameraModel()).isEqualTo("EOS R5");
+        assertThat(exif.lensModel()).isEqualTo("RF24-70mm F2.8 L IS USM");
+        assertThat(exif.iso()).isEqualTo(400);
+        assertThat(exif.takenAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 20, 30));
+    }
+
+    @Test
+    void readsLittleEndianExif() throws IOException {
+        ExifMetadata exif = readExif(exifSegment(ByteOrder.LITTLE_ENDIAN, 8, "2023:12:31 23:59:59"));
+
+        assertThat(exif.orientation()).isEqualTo(8);
+        assertThat(exif.cameraMake()).isEqualTo("Canon");
+        assertThat(exif.iso()).isEqualTo(400);
+        assertThat(exif.takenAt()).isEqualTo(LocalDateTime.of(2023, 12, 31, 23, 59, 59));
+    }
+
+    @Test
+    void invalidValuesFallBackToDefaults() throws IOException {
+        ExifMetadata exif = readExif(exifSegment(ByteOrder.BIG_ENDIAN, 42, "0000:00:00 00:00:00"));
+
+        assertThat(exif.orientation()).isEqualTo(1);
+        assertThat(exif.takenAt()).isNull();
+        assertThat(exif.cameraModel()).isEqualTo("EOS R5");
+    }
+
+    @Test
+    void truncatedExifIsIgnored() throws IOException {
+        byte[] segment = exifSegment(ByteOrder.BIG_ENDIAN, 6, "2024:05:01 10:20:30");
+
+        assertThat(readExif(Arrays.copyOf(segment, 40))).isEqualTo(ExifMetadata.NONE);
+    }
+
+    @Test
+    void jpegWithoutExifHasNoMetadata() throws IOException {
+        assertThat(readExif(null)).isEqualTo(ExifMetadata.NONE);
+        assertThat(ExifMetadata.read(null)).isEqualTo(ExifMetadata.NONE);
+    }
+
+    /**
+     * 작은 JPEG 의 APP0 뒤에 APP1 세그먼트를 넣고 ImageIO 메타데이터로 읽음
+     */
+    private static ExifMetadata readExif(byte[] app1) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "jpeg", encoded);
+        byte[] jpeg = encoded.toByteArray();
+
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        int app0End = 4 + ((jpeg[4] & 0xFF) << 8 | (jpeg[5] & 0xFF));
+        withExif.write(jpeg, 0, app0End);
+        if (app1 != null) {
+            withExif.write(0xFF);
+            withExif.write(0xE1);
+            withExif.write((app1.length + 2) >>> 8);
+            withExif.write((app1.length + 2) & 0xFF);
+            withExif.write(app1);
+        }
+        withExif.write(jpeg, app0End, jpeg.length - app0End);
+
+        ImageReader reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(withExif.toByteArray()))) {
+            reader.setInput(input);
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            return ExifMetadata.read(metadata);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * "Exif\0\0" + TIFF (IFD0: Make / Model / Orientation / Exif IFD, Exif IFD: ISO / DateTimeOriginal / LensModel)
+     */
+    private static byte[] exifSegment(ByteOrder order, int orientation, String takenAt) {
+        TiffWriter tiff = new TiffWriter(order);
+        tiff.header(8);
+
+        tiff.ifd(4);
+        tiff.ascii(0x010F, "Canon");
+        tiff.ascii(0x0110, "EOS R5");
+        tiff.shortValue(0x0112, orientation);
+        tiff.longValue(0x8769, 8 + 2 + 4 * 12 + 4);
+        tiff.endIfd();
+
+        tiff.ifd(3);
+        tiff.shortValue(0x8827, 400);
+        tiff.ascii(0x9003, takenAt);
+        tiff.ascii(0xA434, "RF24-70mm F2.8 L IS USM");
+        tiff.endIfd();
+
+        byte[] body = tiff.toBytes();
+        byte[] segment = new byte[6 + body.length];
+        System.arraycopy("Exif\0\0".getBytes(StandardCharsets.US_ASCII), 0, segment, 0, 6);
+        System.arraycopy(body, 0, segment, 6, body.length);
+        return segment;
+    }
+
+    /**
+     * IFD 엔트리를 앞에서부터 쓰고, 4바이트가 넘는 문자열은 뒤쪽 데이터 영역에 씀
+     */
+    private static final class TiffWriter {
+        private static final int DATA_START = 128;
+
+        private final ByteBuffer buffer;
+        private int dataOffset = DATA_START;
+
+        private TiffWriter(ByteOrder order) {
+            this.buffer = ByteBuffer.allocate(256).order(order);
+        }
+
+        void header(int ifd0Offset) {
+            buffer.put(buffer.order() == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+            buffer.put(buffer.order() == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+            buffer.putShort((short) 42);
+            buffer.putInt(ifd0Offset);
+        }
+
+        void ifd(int entries) {
+            buffer.putShort((short) entries);
+        }
+
+        void endIfd() {
+            buffer.putInt(0);
+        }
+
+        void shortValue(int tag, int value) {
+            buffer.putShort((short) tag).putShort((short) 3).putInt(1).putShort((short) value).putShort((short) 0);
+        }
+
+        void longValue(int tag, long value) {
+            buffer.putShort((short) tag).putShort((short) 4).putInt(1).putInt((int) value);
+        }
+
+        void ascii(int tag, String value) {
+            byte[] bytes = (value + "\0").getBytes(StandardCharsets.US_ASCII);
+            buffer.putShort((short) tag).putShort((short) 2).putInt(bytes.length);
+            if (bytes.length <= 4) {
+                buffer.put(Arrays.copyOf(bytes, 4));
+                return;
+            }
+            buffer.putInt(dataOffset);
+            buffer.put(dataOffset, bytes);
+            dataOffset += bytes.length;
+        }
+
+        byte[] toBytes() {
+            return Arrays.copyOf(buffer.array(), dataOffset);
+        }
+    }
+}
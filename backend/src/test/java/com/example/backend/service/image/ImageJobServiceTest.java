@@ -0,0 +1,235 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.Photo;
+import com.example.backend.domain.PhotoStatus;
+import com.example.backend.domain.UserRoleType;
+import com.example.backend.domain.Users;
+import com.example.backend.repository.ImageJobRepository;
+import com.example.backend.repository.PhotoRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.StoredOriginal;
+import com.example.backend.service.aws.UploadedImage;
+import com.example.backend.service.photo.PhotoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.AccessDeniedException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 직접 업로드 원본 adopt -> 작업 완료 -> 사진 삭제까지 DB 에 실제로 남는 값 확인
+ * S3 만 목으로 바꾸고 트랜잭션은 서비스가 직접 커밋함
+ */
+@SpringBootTest(properties = {
+        // 스케줄된 폴링이 테스트 작업을 먼저 가져가지 않도록 함
+        "image.job.workers=0",
+        "image.job.poll-interval-ms=3600000",
+        "image.job.max-attempts=2",
+        "image.job.retry-backoff-seconds=60"
+})
+class ImageJobServiceTest {
+
+    private static final String EMAIL = "image-job-test@example.com";
+    private static final String HASH = "ab".repeat(32);
+    private static final String CONTENT_KEY = "originals/" + HASH + ".jpg";
+    private static final String IMAGE_URL = "https://cdn.example.com/" + HASH + "_full.jpg";
+
+    @Autowired
+    private ImageJobService imageJobService;
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private ImageJobRepository imageJobRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    private Users user;
+    private final List<Long> photoIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(Users.builder()
+                .email(EMAIL)
+                .password("password")
+                .username("image-job-test")
+                .nickname("image-job-test")
+                .isLock(false)
+                .isSocial(false)
+                .userRoleType(UserRoleType.USER)
+                .build());
+
+        given(s3Service.uploadDerivativesFromOriginal(CONTENT_KEY))
+                .willReturn(new UploadedImage(IMAGE_URL, List.of(), 42L, "LEHV6nWB2yk8pyo0adR*.7kCMdnj", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long photoId : photoIds) {
+            jdbcTemplate.update("DELETE FROM image_jobs WHERE photo_id = ?", photoId);
+            jdbcTemplate.update("DELETE FROM photo_variants WHERE photo_id = ?", photoId);
+            jdbcTemplate.update("DELETE FROM photos WHERE photo_id = ?", photoId);
+        }
+        jdbcTemplate.update("DELETE FROM stored_image_variants WHERE content_hash = ?", HASH);
+        jdbcTemplate.update("DELETE FROM stored_images WHERE content_hash = ?", HASH);
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void adoptedOriginalStaysLinkedUntilThePhotoIsDeleted() throws AccessDeniedException {
+        Long photoId = directUpload("uploads/1/first.jpg", false);
+
+        Long jobId = runJob(photoId, LocalDateTime.now());
+
+        assertThat(jobColumn(jobId, "status")).isEqualTo("DONE");
+        Photo adopted = photoRepository.findById(photoId).orElseThrow();
+        assertThat(adopted.getContentHash()).isEqualTo(HASH);
+        assertThat(adopted.getOriginalKey()).isEqualTo(CONTENT_KEY);
+        assertThat(adopted.getStatus()).isEqualTo(PhotoStatus.READY);
+        assertThat(adopted.getImageUrl()).isEqualTo(IMAGE_URL);
+        assertThat(refCount()).containsExactly(1);
+        // 연결이 커밋된 뒤에 업로드된 키 삭제
+        verify(s3Service).deleteObject("uploads/1/first.jpg");
+
+        photoService.deletePhoto(photoId);
+
+        assertThat(photoRepository.existsById(photoId)).isFalse();
+        assertThat(refCount()).isEmpty();
+        verify(s3Service).deleteContent(HASH, CONTENT_KEY);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void sameContentSharesOneStoredImage() throws AccessDeniedException {
+        Long first = directUpload("uploads/1/first.jpg", false);
+        Long second = directUpload("uploads/1/second.jpg", true);
+
+        runJob(first, LocalDateTime.now());
+        runJob(second, LocalDateTime.now());
+
+        assertThat(photoRepository.findById(second).orElseThrow().getOriginalKey()).isEqualTo(CONTENT_KEY);
+        assertThat(refCount()).containsExactly(2);
+        // 두 번째 작업은 이미 처리된 내용이라 파생 이미지를 다시 만들지 않음
+        verify(s3Service).uploadDerivativesFromOriginal(CONTENT_KEY);
+
+        photoService.deletePhoto(first);
+
+        assertThat(refCount()).containsExactly(1);
+        verify(s3Service, never()).deleteContent(anyString(), anyString());
+        assertThat(photoRepository.findById(second).orElseThrow().getStatus()).isEqualTo(PhotoStatus.READY);
+    }
+
+    @Test
+    void failedJobIsRetriedWithBackoffThenDeadLettered() {
+        Long photoId = directUpload("uploads/1/broken.jpg", false);
+        given(s3Service.adoptOriginal(eq("uploads/1/broken.jpg"), any()))
+                .willThrow(new IllegalArgumentException("원본 해시 계산 중 오류 발생"));
+
+        LocalDateTime firstAttempt = LocalDateTime.now();
+        Long jobId = runJob(photoId, firstAttempt);
+
+        assertThat(jobColumn(jobId, "status")).isEqualTo("PENDING");
+        assertThat(jobColumn(jobId, "lease_owner")).isNull();
+        assertThat(jobColumn(jobId, "last_error")).startsWith("IllegalArgumentException");
+        // 첫 실패는 retry-backoff-seconds 뒤에 다시 처리
+        LocalDateTime nextAttemptAt = jdbcTemplate.queryForObject(
+                "SELECT next_attempt_at FROM image_jobs WHERE image_job_id = ?", LocalDateTime.class, jobId);
+        assertThat(nextAttemptAt).isAfter(firstAttempt.plusSeconds(50));
+
+        // 백오프가 지난 뒤 두번째 시도 (max-attempts = 2) 도 실패하면 DEAD, 사진은 FAILED
+        runJob(photoId, nextAttemptAt.plusSeconds(1));
+
+        assertThat(jobColumn(jobId, "status")).isEqualTo("DEAD");
+        assertThat(photoRepository.findById(photoId).orElseThrow().getStatus()).isEqualTo(PhotoStatus.FAILED);
+    }
+
+    @Test
+    void resultIsDiscardedWhenTheLeaseWasTakenOver() {
+        Long photoId = directUpload("uploads/1/slow.jpg", false);
+        Long jobId = jobId(photoId);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        String workerId = (String) ReflectionTestUtils.getField(imageJobService, "workerId");
+        assertThat(imageJobRepository.claim(jobId, workerId, now, now.plusMinutes(5))).isEqualTo(1);
+
+        // lease 가 만료되어 다른 노드가 가져간 상태
+        jdbcTemplate.update("UPDATE image_jobs SET lease_owner = 'other-node' WHERE image_job_id = ?", jobId);
+        ReflectionTestUtils.invokeMethod(imageJobService, "run", jobId);
+
+        assertThat(jobColumn(jobId, "status")).isEqualTo("RUNNING");
+        assertThat(jobColumn(jobId, "lease_owner")).isEqualTo("other-node");
+        assertThat(photoRepository.findById(photoId).orElseThrow().getStatus()).isEqualTo(PhotoStatus.PROCESSING);
+    }
+
+    /**
+     * finalize 직후 상태 (업로드된 키만 있고 내용 해시는 아직 없음) 의 사진과 작업 등록
+     */
+    private Long directUpload(String uploadedKey, boolean reused) {
+        Photo photo = photoRepository.save(Photo.builder()
+                .user(user)
+                .title("direct upload")
+                .originalKey(uploadedKey)
+                .status(PhotoStatus.PROCESSING)
+                .photoViewCount(0L)
+                .build());
+        photoIds.add(photo.getPhotoId());
+        imageJobService.enqueue(photo.getPhotoId());
+
+        given(s3Service.adoptOriginal(eq(uploadedKey), any()))
+                .willReturn(new StoredOriginal(HASH, CONTENT_KEY, reused, null));
+        return photo.getPhotoId();
+    }
+
+    /**
+     * 폴링 대신 이 사진의 작업만 lease 를 잡고 현재 스레드에서 실행
+     * now 는 next_attempt_at 보다 뒤여야 하므로 1초 여유를 둠
+     */
+    private Long runJob(Long photoId, LocalDateTime at) {
+        Long jobId = jobId(photoId);
+        String workerId = (String) ReflectionTestUtils.getField(imageJobService, "workerId");
+        LocalDateTime now = at.plusSeconds(1);
+
+        assertThat(imageJobRepository.claim(jobId, workerId, now, now.plusMinutes(5))).isEqualTo(1);
+        ReflectionTestUtils.invokeMethod(imageJobService, "run", jobId);
+        return jobId;
+    }
+
+    private Long jobId(Long photoId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT image_job_id FROM image_jobs WHERE photo_id = ?", Long.class, photoId);
+    }
+
+    private String jobColumn(Long jobId, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM image_jobs WHERE image_job_id = ?", String.class, jobId);
+    }
+
+    private List<Integer> refCount() {
+        return jdbcTemplate.queryForList(
+                "SELECT ref_count FROM stored_images WHERE content_hash = ?", Integer.class, HASH);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.Photo;
+import com.example.backend.domain.Users;
+import com.example.backend.repository.PhotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PerceptualHashIndexTest {
+
+    private final PhotoRepository photoRepository = mock(PhotoRepository.class);
+    private PerceptualHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PerceptualHashIndex(photoRepository);
+        ReflectionTestUtils.setField(index, "duplicateDistance", 5);
+        ReflectionTestUtils.setField(index, "maxSearchDistance", 64);
+        ReflectionTestUtils.setField(index, "maxResults", Integer.MAX_VALUE);
+    }
+
+    @Test
+    void searchMatchesABruteForceScan() {
+        Random random = new Random(11);
+        List<Object[]> rows = new ArrayList<>();
+        for (long photoId = 1; photoId <= 2_000; photoId++) {
+            // 가까운 해시가 충분히 생기도록 일부는 앞 사진에서 몇 비트만 바꿈
+            long hash = photoId > 1 && random.nextBoolean()
+                    ? (Long) rows.get(random.nextInt(rows.size()))[2] ^ (1L << random.nextInt(64))
+                    : random.nextLong();
+            rows.add(new Object[]{photoId, photoId % 7, hash});
+        }
+        when(photoRepository.findAllPerceptualHashes()).thenReturn(rows);
+        index.rebuild();
+
+        for (int query = 0; query < 50; query++) {
+            long hash = (Long) rows.get(random.nextInt(rows.size()))[2] ^ random.nextLong() & random.nextLong() & random.nextLong();
+            int maxDistance = random.nextInt(12);
+
+            List<Long> expected = rows.stream()
+                    .filter(row -> PerceptualHash.distance((Long) row[2], hash) <= maxDistance)
+                    .map(row -> (Long) row[0])
+                    .sorted()
+                    .toList();
+            List<Long> found = index.search(hash, maxDistance).stream()
+                    .map(PerceptualHashIndex.Match::photoId)
+                    .sorted()
+                    .toList();
+
+            assertThat(found).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void resultsAreOrderedByDistanceWithTheActualDistance() {
+        when(photoRepository.findAllPerceptualHashes()).thenReturn(List.of(
+                new Object[]{1L, 1L, 0b1111L},
+                new Object[]{2L, 1L, 0b0000L},
+                new Object[]{3L, 1L, 0b0011L},
+                new Object[]{4L, 1L, 0b0000L}
+        ));
+        index.rebuild();
+
+        List<PerceptualHashIndex.Match> matches = index.search(0b0001L, 3);
+
+        assertThat(matches).extracting(PerceptualHashIndex.Match::distance).containsExactly(1, 1, 1, 3);
+        assertThat(matches.subList(0, 3)).extracting(PerceptualHashIndex.Match::photoId).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(matches.get(3).photoId()).isEqualTo(1L);
+    }
+
+    @Test
+    void removedPhotosAreNotReturned() {
+        when(photoRepository.findAllPerceptualHashes()).thenReturn(List.of(
+                new Object[]{1L, 1L, 42L},
+                new Object[]{2L, 2L, 42L}
+        ));
+        index.rebuild();
+
+        index.remove(1L);
+
+        assertThat(index.search(42L, 0)).extracting(PerceptualHashIndex.Match::photoId).containsExactly(2L);
+    }
+
+    @Test
+    void registerMarksNearDuplicatesOfOtherUsersOnly() {
+        when(photoRepository.findAllPerceptualHashes()).thenReturn(List.<Object[]>of(new Object[]{1L, 10L, 0xF0F0L}));
+        index.rebuild();
+
+        Photo sameUser = photo(2L, 10L, 0xF0F0L ^ Long.MIN_VALUE);
+        Photo otherUser = photo(3L, 20L, 0xF0F1L);
+        Photo farAway = photo(4L, 30L, ~0xF0F0L);
+        index.register(sameUser);
+        index.register(otherUser);
+        index.register(farAway);
+
+        assertThat(sameUser.getDuplicateOfPhotoId()).isNull();
+        assertThat(otherUser.getDuplicateOfPhotoId()).isEqualTo(1L);
+        assertThat(farAway.getDuplicateOfPhotoId()).isNull();
+        assertThat(index.search(0xF0F0L, 2)).extracting(PerceptualHashIndex.Match::photoId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private static Photo photo(Long photoId, Long userId, long hash) {
+        return Photo.builder()
+                .photoId(photoId)
+                .user(Users.builder().userId(userId).build())
+                .perceptualHash(hash)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.backend.service.image;
+
+import com.example.backend.domain.StoredImage;
+import com.example.backend.repository.StoredImageRepository;
+import com.example.backend.service.aws.S3Service;
+import com.example.backend.service.aws.StoredOriginal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoredImageServiceTest {
+
+    private static final String HASH = "cd".repeat(32);
+    private static final String KEY = "originals/" + HASH + ".jpg";
+
+    private final StoredImageRepository storedImageRepository = mock(StoredImageRepository.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final StoredImageService storedImageService = new StoredImageService(storedImageRepository, s3Service);
+
+    @BeforeEach
+    void setUp() {
+        // release 는 커밋 후 삭제를 등록하므로 트랜잭션 동기화가 켜진 상태로 실행
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void acquireReturnsTheUpsertedRow() {
+        StoredImage stored = storedImage(1);
+        when(storedImageRepository.acquire(HASH, KEY)).thenReturn(1);
+        when(storedImageRepository.findById(HASH)).thenReturn(Optional.of(stored));
+
+        assertThat(storedImageService.acquire(new StoredOriginal(HASH, KEY, false, null))).isSameAs(stored);
+    }
+
+    @Test
+    void reusedOriginalMayJoinAnExistingRow() {
+        StoredImage stored = storedImage(3);
+        when(storedImageRepository.acquire(HASH, KEY)).thenReturn(2);
+        when(storedImageRepository.findById(HASH)).thenReturn(Optional.of(stored));
+
+        assertThat(storedImageService.acquire(new StoredOriginal(HASH, KEY, true, null)).getRefCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reusedOriginalThatCreatedANewRowIsRejected() {
+        // PUT 을 생략했는데 행이 새로 생겼다면 마지막 참조가 해제되어 객체가 지워지는 중
+        when(storedImageRepository.acquire(HASH, KEY)).thenReturn(1);
+
+        assertThatThrownBy(() -> storedImageService.acquire(new StoredOriginal(HASH, KEY, true, null)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(storedImageRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void releaseKeepsTheRowWhileOtherPhotosReferenceIt() {
+        when(storedImageRepository.findById(HASH)).thenReturn(Optional.of(storedImage(1)));
+
+        storedImageService.release(HASH);
+
+        verify(storedImageRepository).release(HASH);
+        verify(storedImageRepository, never()).delete(any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void lastReleaseDeletesTheObjectsOnlyAfterCommit() {
+        StoredImage stored = storedImage(0);
+        when(storedImageRepository.findById(HASH)).thenReturn(Optional.of(stored));
+
+        storedImageService.release(HASH);
+
+        verify(storedImageRepository).delete(stored);
+        verify(s3Service, never()).deleteContent(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(s3Service).deleteContent(HASH, KEY);
+    }
+
+    @Test
+    void releaseOfAMissingRowDoesNothing() {
+        when(storedImageRepository.findById(HASH)).thenReturn(Optional.empty());
+
+        storedImageService.release(HASH);
+
+        verify(storedImageRepository, never()).delete(any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private static StoredImage storedImage(int refCount) {
+        StoredImage stored = new StoredImage();
+        ReflectionTestUtils.setField(stored, "contentHash", HASH);
+        ReflectionTestUtils.setField(stored, "originalKey", KEY);
+        ReflectionTestUtils.setField(stored, "refCount", refCount);
+        return stored;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.backend.service.photo;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoFeedCursorTest {
+
+    @Test
+    void newestCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+        PhotoFeedCursor cursor = PhotoFeedCursor.decode(PhotoFeedCursor.newest(createdAt, 42L).encode());
+
+        assertThat(cursor.isPopular()).isFalse();
+        assertThat(cursor.isTrending()).isFalse();
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.photoId()).isEqualTo(42L);
+    }
+
+    @Test
+    void popularCursorRoundTrips() {
+        PhotoFeedCursor cursor = PhotoFeedCursor.decode(PhotoFeedCursor.popular(1024L, 7L).encode());
+
+        assertThat(cursor.isPopular()).isTrue();
+        assertThat(cursor.uniqueViewers()).isEqualTo(1024L);
+        assertThat(cursor.photoId()).isEqualTo(7L);
+    }
+
+    @Test
+    void trendingCursorRoundTrips() {
+        PhotoFeedCursor cursor = PhotoFeedCursor.decode(PhotoFeedCursor.trending(60).encode());
+
+        assertThat(cursor.isTrending()).isTrue();
+        assertThat(cursor.offset()).isEqualTo(60);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String token = PhotoFeedCursor.newest(LocalDateTime.of(2025, 3, 4, 5, 6, 7), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertInvalid("not base64!");
+        assertInvalid(raw("n|2025-01-01T12:00:00"));
+        assertInvalid(raw("n|2025-01-01T12:00:00|42|extra"));
+        assertInvalid(raw("x|1|42"));
+        assertInvalid(raw("n|yesterday|42"));
+        assertInvalid(raw("p|many|42"));
+        assertInvalid(raw("p|10|abc"));
+        assertInvalid(raw("t|-1|0"));
+        assertInvalid(raw("t|ten|0"));
+        assertInvalid("");
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> PhotoFeedCursor.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.service.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyBloomFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void neverMissesAnAddedKey() {
+        KeyBloomFilter filter = filledFilter(0.01);
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain(storedKey(i))).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        assertThat(falsePositiveRate(filledFilter(0.01))).isLessThan(0.015);
+        assertThat(falsePositiveRate(filledFilter(0.001))).isLessThan(0.0015);
+    }
+
+    @Test
+    void usesAboutTenBitsPerKeyForOnePercent() {
+        KeyBloomFilter filter = new KeyBloomFilter(KEYS, 0.01);
+
+        // m = -n ln 0.01 / (ln 2)^2 ≈ 9.59 n 비트
+        assertThat(filter.memoryBytes() * 8.0 / KEYS).isBetween(9.5, 9.7);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        KeyBloomFilter filter = new KeyBloomFilter(0, 0.01);
+
+        assertThat(filter.mightContain("originals/a.jpg")).isFalse();
+    }
+
+    private static KeyBloomFilter filledFilter(double falsePositiveRate) {
+        KeyBloomFilter filter = new KeyBloomFilter(KEYS, falsePositiveRate);
+        for (int i = 0; i < KEYS; i++) {
+            filter.add(storedKey(i));
+        }
+        return filter;
+    }
+
+    private static double falsePositiveRate(KeyBloomFilter filter) {
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(missingKey(i))) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / probes;
+    }
+
+    /**
+     * 실제 키와 비슷한 형태 (내용 해시 파생 이미지 키)
+     */
+    private static String storedKey(int i) {
+        return String.format("%064x_thumb.jpg", i * 2654435761L);
+    }
+
+    private static String missingKey(int i) {
+        return String.format("%064x_medium.jpg", i * 2654435761L);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.backend.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalMediaServiceTest {
+
+    private static final String KEY = "abc_thumb.jpg";
+    private static final int SIZE = 100;
+
+    @TempDir
+    Path rootDir;
+
+    private LocalMediaService mediaService;
+    private byte[] data;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileChannelCache channelCache = new FileChannelCache(16);
+        LocalImageStorage storage = new LocalImageStorage(channelCache, rootDir.toString(), "/media/",
+                LocalImageStorage.FsyncPolicy.NONE);
+        // sendfile 을 쓰지 않도록 기준을 크게 잡아 응답 본문을 직접 확인
+        mediaService = new LocalMediaService(storage, channelCache, Long.MAX_VALUE);
+
+        data = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            data[i] = (byte) i;
+        }
+        Path path = storage.pathOf(KEY);
+        Files.createDirectories(path.getParent());
+        Files.write(path, data);
+    }
+
+    @Test
+    void servesTheWholeFileWithoutRange() throws IOException {
+        MockHttpServletResponse response = serve(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentAsByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void servesAClosedRange() throws IOException {
+        MockHttpServletResponse response = serve(withRange("bytes=10-19"));
+
+        assertPartial(response, 10, 19);
+    }
+
+    @Test
+    void servesAnOpenEndedRange() throws IOException {
+        MockHttpServletResponse response = serve(withRange("bytes=90-"));
+
+        assertPartial(response, 90, 99);
+    }
+
+    @Test
+    void servesASuffixRange() throws IOException {
+        assertPartial(serve(withRange("bytes=-10")), 90, 99);
+        // 파일보다 긴 suffix 는 전체 파일
+        assertThat(serve(withRange("bytes=-500")).getContentAsByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void clampsAnEndBeyondTheFile() throws IOException {
+        assertPartial(serve(withRange("bytes=95-1000")), 95, 99);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRangesWith416() throws IOException {
+        for (String range : new String[]{"bytes=100-", "bytes=150-200", "bytes=20-10", "bytes=-0"}) {
+            MockHttpServletResponse response = serve(withRange(range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(416);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isEqualTo("bytes */" + SIZE);
+        }
+    }
+
+    @Test
+    void ignoresMultipleAndMalformedRanges() throws IOException {
+        for (String range : new String[]{"bytes=0-1,5-6", "items=0-5", "bytes=abc-def", "bytes=5"}) {
+            MockHttpServletResponse response = serve(withRange(range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getContentAsByteArray()).as(range).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void honorsRangeOnlyWhenIfRangeMatchesTheEtag() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest matching = withRange("bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, etag);
+        assertPartial(serve(matching), 0, 9);
+
+        MockHttpServletRequest stale = withRange("bytes=0-9");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = serve(stale);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void answersNotModifiedForAMatchingEtag() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        MockHttpServletResponse response = serve(conditional);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void headRequestsHaveNoBody() throws IOException {
+        MockHttpServletRequest head = new MockHttpServletRequest("HEAD", "/media/" + KEY);
+        MockHttpServletResponse response = serve(head);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(SIZE);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void hidesOriginalsAndMissingKeys() throws IOException {
+        MockHttpServletResponse original = new MockHttpServletResponse();
+        mediaService.serve("originals/abc.jpg", request(), original);
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        mediaService.serve("missing.jpg", request(), missing);
+
+        assertThat(original.getStatus()).isEqualTo(404);
+        assertThat(missing.getStatus()).isEqualTo(404);
+    }
+
+    private void assertPartial(MockHttpServletResponse response, int start, int end) {
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes " + start + "-" + end + "/" + SIZE);
+        assertThat(response.getContentLengthLong()).isEqualTo(end - start + 1);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(data, start, end + 1));
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        mediaService.serve(KEY, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/media/" + KEY);
+    }
+
+    private static MockHttpServletRequest withRange(String range) {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+}
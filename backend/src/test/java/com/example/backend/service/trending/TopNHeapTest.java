@@ -0,0 +1,125 @@
+package com.example.backend.service.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopNHeapTest {
+
+    @Test
+    void keepsOnlyTheHighestScores() {
+        TopNHeap heap = new TopNHeap(3);
+
+        heap.update(1, 10);
+        heap.update(2, 50);
+        heap.update(3, 30);
+        heap.update(4, 5);
+        heap.update(5, 40);
+
+        assertThat(heap.sortedIds()).containsExactly(2L, 5L, 3L);
+    }
+
+    @Test
+    void raisingAnEntryReordersIt() {
+        TopNHeap heap = new TopNHeap(3);
+        heap.update(1, 10);
+        heap.update(2, 20);
+        heap.update(3, 30);
+
+        heap.update(1, 100);
+
+        assertThat(heap.sortedIds()).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void loweredEntryIsReplacedByTheNextHigherNewcomer() {
+        TopNHeap heap = new TopNHeap(2);
+        heap.update(1, 50);
+        heap.update(2, 40);
+
+        heap.update(1, 1);
+        heap.update(3, 2);
+
+        assertThat(heap.sortedIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void newcomerBelowTheRootIsIgnored() {
+        TopNHeap heap = new TopNHeap(2);
+        heap.update(1, 50);
+        heap.update(2, 40);
+
+        heap.update(3, 39);
+
+        assertThat(heap.sortedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeKeepsTheHeapConsistent() {
+        TopNHeap heap = new TopNHeap(5);
+        for (long id = 1; id <= 5; id++) {
+            heap.update(id, id * 10);
+        }
+
+        heap.remove(2);
+        heap.remove(5);
+        heap.remove(42);
+        heap.update(6, 35);
+
+        assertThat(heap.sortedIds()).containsExactly(4L, 6L, 3L, 1L);
+    }
+
+    @Test
+    void scalingKeepsTheOrder() {
+        TopNHeap heap = new TopNHeap(3);
+        heap.update(1, 10);
+        heap.update(2, 20);
+        heap.update(3, 30);
+
+        heap.scale(0.5);
+        // 배수를 곱한 뒤의 점수와 비교해야 함 (12 > 5 이므로 1 을 밀어냄)
+        heap.update(4, 12);
+
+        assertThat(heap.sortedIds()).containsExactly(3L, 4L, 2L);
+    }
+
+    @Test
+    void zeroCapacityHoldsNothing() {
+        TopNHeap heap = new TopNHeap(0);
+
+        heap.update(1, 10);
+
+        assertThat(heap.sortedIds()).isEmpty();
+    }
+
+    @Test
+    void matchesAFullSortUnderRandomUpdatesAndRemovals() {
+        Random random = new Random(7);
+        Map<Long, Double> scores = new HashMap<>();
+        TopNHeap heap = new TopNHeap(1_000);
+
+        // 용량이 전체 id 수보다 커서 모든 항목이 힙에 있으므로 전체 정렬과 같아야 함
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                scores.remove(id);
+                heap.remove(id);
+            } else {
+                double score = random.nextDouble() * 1_000;
+                scores.put(id, score);
+                heap.update(id, score);
+            }
+        }
+
+        List<Long> expected = new ArrayList<>(scores.keySet());
+        expected.sort(Comparator.comparingDouble((Long id) -> scores.get(id)).reversed());
+        assertThat(heap.sortedIds()).isEqualTo(expected);
+    }
+}
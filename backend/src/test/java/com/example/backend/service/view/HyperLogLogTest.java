@@ -0,0 +1,109 @@
+package com.example.backend.service.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesSmallCardinalityWithLinearCounting() {
+        HyperLogLog sketch = sketchOf(0, 1_000);
+
+        assertThat((double) sketch.estimate()).isCloseTo(1_000, within(30.0));
+    }
+
+    @Test
+    void estimatesLargeCardinalityWithinStandardError() {
+        HyperLogLog sketch = sketchOf(0, 200_000);
+
+        // 표준 오차 약 2.3%, 여유를 두고 3배까지 허용
+        assertThat((double) sketch.estimate()).isCloseTo(200_000, within(200_000 * 0.07));
+    }
+
+    @Test
+    void repeatedViewersAreCountedOnce() {
+        HyperLogLog sketch = sketchOf(0, 500);
+        long before = sketch.estimate();
+
+        for (int round = 0; round < 10; round++) {
+            for (long i = 0; i < 500; i++) {
+                sketch.offer(mix(i));
+            }
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void packedBytesRoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 50_000);
+
+        byte[] packed = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(packed);
+
+        assertThat(packed).hasSize(HyperLogLog.SERIALIZED_BYTES);
+        assertThat(restored.toBytes()).isEqualTo(packed);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    void packingKeepsTheLargestRank() {
+        HyperLogLog sketch = new HyperLogLog();
+        // 인덱스 비트 이후가 모두 0 인 해시는 최대 순위 (54) 로 6비트를 꽉 채움
+        sketch.offer(0L);
+        sketch.offer(-1L);
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    void mergeIsUnionAndIdempotent() {
+        HyperLogLog left = sketchOf(0, 30_000);
+        HyperLogLog right = sketchOf(20_000, 50_000);
+        HyperLogLog union = sketchOf(0, 50_000);
+
+        left.merge(right);
+        long merged = left.estimate();
+        left.merge(right);
+
+        assertThat(merged).isEqualTo(union.estimate());
+        assertThat(left.estimate()).isEqualTo(merged);
+    }
+
+    @Test
+    void rejectsMalformedSketch() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[HyperLogLog.SERIALIZED_BYTES - 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(long from, long to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = from; i < to; i++) {
+            sketch.offer(mix(i));
+        }
+        return sketch;
+    }
+
+    /**
+     * 방문자 해시 대신 쓰는 splitmix64 (64비트가 고르게 섞임)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}